@@ -0,0 +1,10 @@
+import syntaxtree.*;
+
+/**
+ * Receives the classes of a program one at a time from MiniJavaParser.Classes(),
+ * first the MainClass and then every TypeDeclaration in source order.
+ */
+interface ClassHandler {
+
+    void handle(Node declaration) throws Exception;
+}
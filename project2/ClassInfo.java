@@ -0,0 +1,181 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The scope of a single class: its fields and methods, found through the
+ * member tables of the symbol table by the ids of the class and the member.
+ * Members that are not found here are resolved through the parent class.
+ */
+public class ClassInfo {
+
+    private final SymbolTable table;
+    // position of the class in declaration order
+    private final int index;
+    private final int id;
+    private final String name;
+    // id of the name of the parent class, -1 if the class does not extend any
+    private final int parent;
+    // ids of the fields of the class, in declaration order
+    private int[] fields;
+    private int fieldCount;
+    // methods of the class, in declaration order
+    private final List<MethodInfo> methods;
+    // where the name of the class is in the source
+    private int line;
+    private int column;
+    // when the walk of the inheritance trees entered and left the class, -1 until the table is frozen
+    int enter = -1;
+    int exit = -1;
+
+    ClassInfo(SymbolTable table, int index, int id, int parent)
+    {
+        this.table = table;
+        this.index = index;
+        this.id = id;
+        this.name = table.getNames().name(id);
+        this.parent = parent;
+        fields = new int[4];
+        methods = new ArrayList<MethodInfo>();
+    }
+
+    // position of the class in declaration order
+    public int getIndex()
+    {
+        return index;
+    }
+
+    // id of the name of the class
+    public int getId()
+    {
+        return id;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public int getLine()
+    {
+        return line;
+    }
+
+    public int getColumn()
+    {
+        return column;
+    }
+
+    void setPosition(int line, int column)
+    {
+        this.line = line;
+        this.column = column;
+    }
+
+    // name of the class this class extends, null if it does not extend any
+    public String getParentName()
+    {
+        if(parent < 0) return null;
+        return table.getNames().name(parent);
+    }
+
+    // the class this class extends, null if it does not extend any or the parent has not been declared
+    public ClassInfo getParent()
+    {
+        return table.getClass(parent);
+    }
+
+    // checking if this class is the same as or inherits from another class, in constant time once the table is frozen
+    public boolean isSubclassOf(ClassInfo ancestor)
+    {
+        if(enter < 0 || ancestor.enter < 0) return this == ancestor;
+        return ancestor.enter <= enter && exit <= ancestor.exit;
+    }
+
+    public SemType getType()
+    {
+        return table.classType(name);
+    }
+
+    // adds a field to this class, returns false if the class already has a field with the same name
+    public boolean addField(int field, SemType type)
+    {
+        table.checkWritable();
+        if(!table.addField(id, field, type)) return false;
+
+        if(fieldCount == fields.length) fields = Arrays.copyOf(fields, fieldCount * 2);
+        fields[fieldCount++] = field;
+        return true;
+    }
+
+    // adds a method to this class, returns null if the class already has a method with the same name
+    public MethodInfo addMethod(int method, SemType returnType)
+    {
+        table.checkWritable();
+
+        MethodInfo info = new MethodInfo(this, method, table.getNames().name(method), returnType);
+        if(!table.addMethod(id, info)) return null;
+        methods.add(info);
+        return info;
+    }
+
+    // number of fields declared in this class
+    public int getFieldCount()
+    {
+        return fieldCount;
+    }
+
+    // id of the i-th field declared in this class
+    public int getField(int i)
+    {
+        return fields[i];
+    }
+
+    // type of a field declared in this class, null if there is none
+    public SemType getFieldType(int field)
+    {
+        return table.fieldType(id, field);
+    }
+
+    // the methods declared in this class
+    public List<MethodInfo> getMethods()
+    {
+        return Collections.unmodifiableList(methods);
+    }
+
+    // a method declared in this class, null if there is none
+    public MethodInfo getMethod(int method)
+    {
+        return table.method(id, method);
+    }
+
+    SymbolTable getTable()
+    {
+        return table;
+    }
+
+    // returns the type of a field of this class or its parent classes, null if there is none
+    public SemType lookupField(int field)
+    {
+        for(ClassInfo info = this; info != null; info = info.getParent())
+        {
+            SemType type = table.fieldType(info.id, field);
+            if(type != null) return type;
+        }
+
+        return null;
+    }
+
+    // returns a method of this class or its parent classes, null if there is none
+    public MethodInfo lookupMethod(int method)
+    {
+        for(ClassInfo info = this; info != null; info = info.getParent())
+        {
+            MethodInfo found = table.method(info.id, method);
+            if(found != null) return found;
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,140 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Long running checker, so the JVM starts and the parser and the visitor get
+ * compiled only once for many checks.
+ * Every request is one line with the same arguments as the command line,
+ * for example "--bulk A.java B.java" (file names can not contain spaces).
+ * -j, --output, --daemon and --socket only apply to the daemon itself, a
+ * request that has one of them gets the usage.
+ * The reply is what "java Main" would print for those files, standard error
+ * first and standard output after it, followed by a line with a single ".".
+ */
+class Daemon {
+
+    // marks the end of a reply
+    static final String END = ".";
+
+    // options that are only taken when the daemon is started
+    static final Set<String> DAEMON_OPTIONS = Set.of("-j", "--output", "--daemon", "--socket");
+
+    // answers the requests read from in until it is closed, standard error goes to err
+    static void serve(InputStream in, PrintStream out, PrintStream err, Main.Options options) throws IOException
+    {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+        String line;
+
+        while((line = reader.readLine()) != null)
+        {
+            if(line.trim().isEmpty()) continue;
+
+            Main.FileResult result = check(line, options);
+            err.write(result.err.toByteArray());
+            err.flush();
+            out.write(result.out.toByteArray());
+            out.println(END);
+            out.flush();
+        }
+    }
+
+    // accepts clients on a unix socket, -j sets how many of them are served at the same time
+    static void listen(String path, Main.Options options) throws IOException
+    {
+        Path file = Path.of(path);
+        // a socket file left behind by a daemon that did not shut down cleanly
+        Files.deleteIfExists(file);
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, options.jobs));
+        try(ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX))
+        {
+            server.bind(UnixDomainSocketAddress.of(file));
+            // the socket is created with the umask of the daemon, only its owner may send it files to read
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+            System.err.println("listening on " + path);
+
+            while(true)
+            {
+                SocketChannel client = server.accept();
+                workers.execute(() -> {
+                    try(SocketChannel channel = client)
+                    {
+                        // the client sees standard error and standard output on the same stream
+                        PrintStream reply = new PrintStream(Channels.newOutputStream(channel), false);
+                        serve(Channels.newInputStream(channel), reply, reply, options);
+                    }
+                    catch(IOException ex){
+                        // the client went away, the daemon keeps running
+                        System.err.println(ex.getMessage());
+                    }
+                });
+            }
+        }
+        finally{
+            workers.shutdownNow();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // checks the files of one request line, with the daemon options as the defaults
+    static Main.FileResult check(String line, Main.Options defaults)
+    {
+        Main.FileResult result = new Main.FileResult();
+        PrintStream out = new PrintStream(result.out, false);
+        PrintStream err = new PrintStream(result.err, false);
+
+        try{
+            // a request with a wrong option gets the usage and checks nothing
+            String[] args = line.trim().split("\\s+");
+            Main.Options options = defaults.copy();
+            List<String> files = new ArrayList<String>();
+            if(requestOptions(args, err) && Main.parseOptions(args, options, files, err))
+            {
+                for(String file: files) Main.check(file, options, out, err);
+            }
+            else err.println(Main.USAGE);
+        }
+        catch(VirtualMachineError ex){
+            throw ex;
+        }
+        catch(Exception | Error ex){
+            // a file that would stop "java Main" only ends this request
+            err.println(ex);
+        }
+
+        out.flush();
+        err.flush();
+        return result;
+    }
+
+    // returns false if a request has an option that is only taken when the daemon is started, after printing which to err
+    static boolean requestOptions(String[] args, PrintStream err)
+    {
+        for(String arg: args)
+        {
+            if(DAEMON_OPTIONS.contains(arg))
+            {
+                err.println("Option " + arg + " can only be given when the daemon is started");
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,276 @@
+import syntaxtree.*;
+import visitor.*;
+
+/**
+ * First pass of the checker: collects every class with its fields, methods
+ * and parameters into the symbol table without looking inside method bodies.
+ * The table is complete before any body is checked, so bodies can use
+ * classes and methods that are declared after them.
+ */
+class DeclarationVisitor extends GJDepthFirst<SemType, Void> {
+
+    // the table being filled
+    SymbolTable symbols;
+    // class whose members are being collected
+    ClassInfo current_class;
+    // method whose parameters are being collected
+    MethodInfo current_method;
+    // where the errors of the declarations are reported
+    Diagnostics diagnostics;
+
+    public DeclarationVisitor(SymbolTable symbols, Diagnostics diagnostics)
+    {
+        this.symbols = symbols;
+        this.diagnostics = diagnostics;
+    }
+
+    // fills the table from the outline of a skimmed program, with the same checks as for a whole tree
+    void declare(Outline outline) throws Exception {
+
+        declare_class(outline.getMainClass(), null);
+
+        for(Outline.ClassOutline info: outline.getClasses())
+        {
+            if(!declare_class(info.getName(), info.getParentName())) continue;
+            for(VarDeclaration field: info.getFields()) field.accept(this, null);
+            for(Outline.MethodOutline method: info.getMethods()) declare_method(method.getType(), method.getName(), method.getParameters());
+        }
+    }
+
+    // ends the declarations: every parent class has to be declared and no class can inherit from itself,
+    // so the walks up the parents that come after this always end
+    // returns false if the hierarchy has an error, the bodies are not checked then
+    // a member declared twice leaves the table as it was after the first declaration, so the bodies are checked after that
+    boolean finish() throws Exception {
+
+        boolean hierarchy = true;
+        for(ClassInfo info: symbols.getClasses())
+        {
+            if(info.getParentName() != null && info.getParent() == null)
+            {
+                diagnostics.error(info.getLine(), info.getColumn(), "Class: {} extends {} that has not been declared", info.getName(), info.getParentName());
+                hierarchy = false;
+            }
+        }
+
+        for(ClassInfo cyclic: symbols.findCycles())
+        {
+            diagnostics.error(cyclic.getLine(), cyclic.getColumn(), "Class: {} inherits from itself", cyclic.getName());
+            hierarchy = false;
+        }
+
+        // the classes of a broken hierarchy are still laid out where their parents allow it
+        symbols.freeze();
+        return hierarchy;
+    }
+
+    /**
+     * f0 -> "class"
+     * f1 -> Identifier()
+     * f2 -> "{"
+     * f3 -> "public"
+     * f4 -> "static"
+     * f5 -> "void"
+     * f6 -> "main"
+     * f7 -> "("
+     * f8 -> "String"
+     * f9 -> "["
+     * f10 -> "]"
+     * f11 -> Identifier()
+     * f12 -> ")"
+     * f13 -> "{"
+     * f14 -> ( VarDeclaration() )*
+     * f15 -> ( Statement() )*
+     * f16 -> "}"
+     * f17 -> "}"
+     */
+    @Override
+    public SemType visit(MainClass n, Void argu) throws Exception {
+
+        // main has no fields or methods that can be used, and its variables belong to its body
+        declare_class(n.f1, null);
+        declare_locals(n.f14);
+
+        return null;
+    }
+
+    /**
+     * f0 -> "class"
+     * f1 -> Identifier()
+     * f2 -> "{"
+     * f3 -> ( VarDeclaration() )*
+     * f4 -> ( MethodDeclaration() )*
+     * f5 -> "}"
+     */
+    @Override
+    public SemType visit(ClassDeclaration n, Void argu) throws Exception {
+
+        // the members of a class that is declared twice are left out
+        if(!declare_class(n.f1, null)) return null;
+
+        n.f3.accept(this, null);
+        n.f4.accept(this, null);
+
+        return null;
+    }
+
+    /**
+     * f0 -> "class"
+     * f1 -> Identifier()
+     * f2 -> "extends"
+     * f3 -> Identifier()
+     * f4 -> "{"
+     * f5 -> ( VarDeclaration() )*
+     * f6 -> ( MethodDeclaration() )*
+     * f7 -> "}"
+     */
+    @Override
+    public SemType visit(ClassExtendsDeclaration n, Void argu) throws Exception {
+
+        if(!declare_class(n.f1, n.f3)) return null;
+
+        n.f5.accept(this, null);
+        n.f6.accept(this, null);
+
+        return null;
+    }
+
+    /**
+     * f0 -> Type()
+     * f1 -> Identifier()
+     */
+    @Override
+    public SemType visit(VarDeclaration n, Void argu) throws Exception {
+
+        // only fields are reached here, local variables are left to the body pass
+        SemType type = n.f0.accept(this, null);
+
+        // checking if the field has been declared before in this class or not
+        if(!current_class.addField(symbol(n.f1), type)) diagnostics.error(n.f1.f0, "{} has already been declared", n.f1.f0);
+
+        return type;
+    }
+
+    /**
+     * f0 -> "public"
+     * f1 -> Type()
+     * f2 -> Identifier()
+     * f3 -> "("
+     * f4 -> ( FormalParameterList() )?
+     * f5 -> ")"
+     * f6 -> "{"
+     * f7 -> ( VarDeclaration() )*
+     * f8 -> ( Statement() )*
+     * f9 -> "return"
+     * f10 -> Expression()
+     * f11 -> ";"
+     * f12 -> "}"
+     */
+    @Override
+    public SemType visit(MethodDeclaration n, Void argu) throws Exception {
+
+        // the parameters are part of the declaration, the body is not
+        SemType type = declare_method(n.f1, n.f2, n.f4.node);
+        declare_locals(n.f7);
+
+        return type;
+    }
+
+    /**
+     * f0 -> Type()
+     * f1 -> Identifier()
+     */
+    @Override
+    public SemType visit(FormalParameter n, Void argu) throws Exception {
+        SemType type = n.f0.accept(this, null);
+
+        // checking if another parameter has the same name
+        if(!current_method.addParameter(symbol(n.f1), type)) diagnostics.error(n.f1.f0, "{} has already been declared", n.f1.f0);
+
+        return type;
+    }
+
+    // adds a class to the table, the parent class is null if it does not extend any
+    // returns false if the class has been declared before
+    private boolean declare_class(Identifier classname, Identifier parent_class) throws Exception {
+
+        // checking if the class has been declared before or not
+        current_class = symbols.addClass(symbol(classname), parent_class == null ? -1 : symbol(parent_class));
+        if(current_class == null)
+        {
+            diagnostics.error(classname.f0, "Class: {} already exists", classname.f0);
+            return false;
+        }
+
+        current_class.setPosition(classname.f0.beginLine, classname.f0.beginColumn);
+        return true;
+    }
+
+    // adds a method with its parameters to the current class, parameters is null if there are none
+    private SemType declare_method(Type returned, Identifier name, Node parameters) throws Exception {
+
+        SemType type = returned.accept(this, null);
+
+        // checking if the function has been declared before or not
+        // the parameters of a method that is declared twice are left out
+        current_method = current_class.addMethod(symbol(name), type);
+        if(current_method == null)
+        {
+            diagnostics.error(name.f0, "function {} has already been declared", name.f0);
+            return type;
+        }
+        current_method.setPosition(name.f0.beginLine, name.f0.beginColumn);
+
+        if(parameters != null) parameters.accept(this, null);
+        current_method = null;
+
+        return type;
+    }
+
+    // gives the local variables of a body an id, they are added to the scope of the body by the visitor that checks it
+    // every name that is declared has an id before any body is checked, so the bodies checked on the pool only look names up
+    private void declare_locals(NodeListOptional locals)
+    {
+        for(Node local: locals.nodes) symbol(((VarDeclaration) local).f1);
+    }
+
+    // the id of a declared name, a tree that was not lexed with the names of the table adds its names here
+    private int symbol(Identifier n)
+    {
+        return symbols.getNames().intern(n.f0.tokenImage);
+    }
+
+    @Override
+    public SemType visit(Type n, Void argu) throws Exception {
+
+        // a class name as a type is not a variable, so it is resolved here instead of visit(Identifier)
+        if(n.f0.choice instanceof Identifier) return symbols.classType(((Identifier) n.f0.choice).f0.toString());
+
+        return n.f0.accept(this, null);
+    }
+
+    @Override
+    public SemType visit(ArrayType n, Void argu) throws Exception {
+        return n.f0.accept(this, null);
+    }
+
+    @Override
+    public SemType visit(IntegerArrayType n, Void argu) throws Exception {
+        return SemType.INT_ARRAY;
+    }
+
+    @Override
+    public SemType visit(BooleanArrayType n, Void argu) throws Exception {
+        return SemType.BOOLEAN_ARRAY;
+    }
+
+    @Override
+    public SemType visit(BooleanType n, Void argu) throws Exception {
+        return SemType.BOOLEAN;
+    }
+
+    @Override
+    public SemType visit(IntegerType n, Void argu) throws Exception {
+        return SemType.INT;
+    }
+}
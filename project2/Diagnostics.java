@@ -0,0 +1,117 @@
+import syntaxtree.NodeToken;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The semantic errors of a program, each with the position it was found at.
+ * The checker reports an error here and goes on with the rest of the program,
+ * so one run finds every error of a file instead of only the first one.
+ * Nothing is thrown and no text is built while checking: an error keeps its
+ * message as a template with "{}" for every argument, and the text is only
+ * put together when the error is written out by Report.
+ */
+public class Diagnostics {
+
+    // every error in the order it was found
+    private final List<Diagnostic> errors = new ArrayList<Diagnostic>();
+
+    // reports an error at a token, every "{}" of the message is replaced by the next argument when it is printed
+    public void error(NodeToken at, String message, Object... arguments)
+    {
+        errors.add(new Diagnostic(at.beginLine, at.beginColumn, message, arguments));
+    }
+
+    // reports an error at a line and a column
+    public void error(int line, int column, String message, Object... arguments)
+    {
+        errors.add(new Diagnostic(line, column, message, arguments));
+    }
+
+    public boolean isEmpty()
+    {
+        return errors.isEmpty();
+    }
+
+    public int size()
+    {
+        return errors.size();
+    }
+
+    public List<Diagnostic> getErrors()
+    {
+        return Collections.unmodifiableList(errors);
+    }
+
+    // adds the errors of another sink after the errors of this one
+    public void addAll(Diagnostics other)
+    {
+        errors.addAll(other.errors);
+    }
+
+    public static class Diagnostic {
+
+        private final int line;
+        private final int column;
+        // the message with "{}" where the arguments go
+        private final String message;
+        private final Object[] arguments;
+
+        Diagnostic(int line, int column, String message, Object[] arguments)
+        {
+            this.line = line;
+            this.column = column;
+            this.message = message;
+            this.arguments = arguments;
+        }
+
+        public int getLine()
+        {
+            return line;
+        }
+
+        public int getColumn()
+        {
+            return column;
+        }
+
+        // the message with its arguments filled in
+        public String getMessage()
+        {
+            StringBuilder text = new StringBuilder();
+            appendMessage(text);
+            return text.toString();
+        }
+
+        // adds the whole line of the error to text
+        void appendTo(StringBuilder text)
+        {
+            text.append("Semantic Error, ");
+            appendMessage(text);
+            text.append(" at line ").append(line).append(", column ").append(column);
+        }
+
+        // adds the message with its arguments filled in to text
+        void appendMessage(StringBuilder text)
+        {
+            int from = 0;
+            for(Object argument: arguments)
+            {
+                int at = message.indexOf("{}", from);
+                if(at < 0) break;
+                text.append(message, from, at).append(argument);
+                from = at + 2;
+            }
+            text.append(message, from, message.length());
+        }
+
+        @Override
+        public String toString()
+        {
+            StringBuilder text = new StringBuilder();
+            appendTo(text);
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+import java.util.Arrays;
+
+/**
+ * A map from non negative ints to non negative ints, kept in two arrays with
+ * open addressing. There is no object per entry and nothing is boxed, a
+ * lookup is a multiply, a shift and a few array reads.
+ */
+public class IntIntMap {
+
+    // returned by get for a key that has no value
+    public static final int MISSING = -1;
+
+    // key + 1 of every used slot, 0 for a free slot
+    private int[] keys;
+    private int[] values;
+    private int size;
+    // log2 of the number of slots
+    private int bits;
+    // log2 of the number of slots the map was made with
+    private final int initialBits;
+
+    public IntIntMap()
+    {
+        this(8);
+    }
+
+    // a map that holds at least the given number of entries before it grows
+    public IntIntMap(int expected)
+    {
+        bits = 3;
+        while((1 << bits) < expected * 2) bits++;
+        initialBits = bits;
+        keys = new int[1 << bits];
+        values = new int[1 << bits];
+    }
+
+    // returns the value of a key, MISSING if it has none
+    public int get(int key)
+    {
+        int mask = keys.length - 1;
+        for(int i = slot(key); keys[i] != 0; i = (i + 1) & mask)
+        {
+            if(keys[i] == key + 1) return values[i];
+        }
+
+        return MISSING;
+    }
+
+    public boolean containsKey(int key)
+    {
+        return get(key) != MISSING;
+    }
+
+    // adds an entry, returns false and keeps the old value if the key already has one
+    public boolean add(int key, int value)
+    {
+        // -1 would be stored as a free slot and the entry would be lost
+        if(key < 0) throw new IllegalArgumentException("negative key " + key);
+
+        int mask = keys.length - 1;
+        int i = slot(key);
+        while(keys[i] != 0)
+        {
+            if(keys[i] == key + 1) return false;
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key + 1;
+        values[i] = value;
+
+        // the table is kept at most half full
+        if(++size * 2 > keys.length) rehash();
+        return true;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    // removes every entry, a map that is mostly free slots gets back the arrays it was made with
+    public void clear()
+    {
+        if(size == 0) return;
+        // one large table would otherwise be filled again on every clear, however few entries the next ones have
+        if(keys.length > 4 * size && bits > initialBits)
+        {
+            bits = initialBits;
+            keys = new int[1 << bits];
+            values = new int[1 << bits];
+        }
+        else Arrays.fill(keys, 0);
+        size = 0;
+    }
+
+    // Fibonacci hashing, the top bits of the product spread keys that are close to each other
+    private int slot(int key)
+    {
+        return (key * 0x9E3779B9) >>> (32 - bits);
+    }
+
+    private void rehash()
+    {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        bits++;
+        keys = new int[1 << bits];
+        values = new int[1 << bits];
+
+        int mask = keys.length - 1;
+        for(int j = 0; j < oldKeys.length; j++)
+        {
+            if(oldKeys[j] == 0) continue;
+            int i = slot(oldKeys[j] - 1);
+            while(keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+}
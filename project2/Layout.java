@@ -0,0 +1,320 @@
+import java.util.Arrays;
+
+/**
+ * Where the fields of an object and the methods of a vtable go, for every
+ * class of a frozen symbol table.
+ * The fields a class declares start where the fields of its parent end, in
+ * declaration order. The vtable of a class starts with the slots of its
+ * parent, a method that overrides a method of any class above it, the
+ * parent or one further up, takes the slot of that method and every other
+ * method gets a new slot at the end.
+ * Every class is laid out once, parents before children, so a program is
+ * laid out in time linear in its classes and members however deep its
+ * hierarchy is.
+ * In a hierarchy with errors, the classes that inherit from themselves are
+ * not laid out, and a class whose parent has not been declared starts at 0
+ * like a class that extends nothing. The offsets of such a class, and of
+ * the classes below it, are not known.
+ *
+ * A packed layout puts every field at a multiple of its own size, the way
+ * the runtime does, but not in declaration order: the references of a class
+ * go first, then its ints and then its booleans, and every field takes the
+ * first hole it fits in, holes that the parent class left at its end
+ * included. Next to it the layout keeps the size the object would have with
+ * the same alignment in declaration order, to tell how much packing saves.
+ */
+public class Layout {
+
+    // bytes of a vtable slot
+    public static final int METHOD_SIZE = 8;
+    // objects take whole words
+    public static final int WORD = 8;
+    private static final int[] NO_HOLES = new int[0];
+
+    // every class of the table, by position in declaration order
+    private final ClassInfo[] classes;
+    // first byte of the fields a class declares, the size of its parent
+    private final int[] start;
+    // bytes of the fields of a class and of its parents
+    private final int[] size;
+    // slots of the vtable of a class
+    private final int[] tableSize;
+    // offset of every field a class declares, in declaration order
+    private final int[][] fieldOffsets;
+    // slot of every method a class declares, in declaration order
+    private final int[][] methodSlots;
+    // vtable of every class, built the first time it is asked for
+    private final MethodInfo[][] vtables;
+    // whether the fields are packed
+    private final boolean packed;
+    // bytes that are not used before the end of the fields of a class, pairs of first byte and end, for the packed layout
+    private final int[][] holes;
+    // bytes of an object of a class with aligned fields in declaration order
+    private final int[] unpackedSize;
+    // whether every class a class inherits from has been declared, so its offsets are known
+    private final boolean[] known;
+
+    // lays out every class of a frozen table, with the fields packed or in declaration order
+    Layout(SymbolTable symbols, boolean packed)
+    {
+        if(!symbols.isFrozen()) throw new IllegalStateException("the symbol table is not frozen");
+        this.packed = packed;
+
+        classes = symbols.getClasses().toArray(new ClassInfo[0]);
+        int count = classes.length;
+        start = new int[count];
+        size = new int[count];
+        tableSize = new int[count];
+        fieldOffsets = new int[count][];
+        methodSlots = new int[count][];
+        vtables = new MethodInfo[count][];
+        holes = packed ? new int[count][] : null;
+        unpackedSize = packed ? new int[count] : null;
+        known = new boolean[count];
+
+        // the walk of the hierarchy that numbered the classes entered every parent before its children,
+        // the classes of an inheritance cycle are not numbered
+        ClassInfo[] byEnter = new ClassInfo[2 * count];
+        for(ClassInfo info: classes)
+        {
+            if(info.enter >= 0) byEnter[info.enter] = info;
+        }
+
+        // the slot every method name got and the class that added that slot, by name id
+        // (the names table can be refilled by a second reading of the file, so its size is not used)
+        int names = 0;
+        for(ClassInfo info: classes)
+        {
+            for(MethodInfo method: info.getMethods()) names = Math.max(names, method.getId() + 1);
+        }
+        int[] slotOfName = new int[names];
+        ClassInfo[] slotOwner = new ClassInfo[names];
+
+        for(ClassInfo info: byEnter)
+        {
+            if(info != null) lay_out(info, slotOfName, slotOwner);
+        }
+    }
+
+    // lays out a class whose parent has already been laid out
+    private void lay_out(ClassInfo info, int[] slotOfName, ClassInfo[] slotOwner)
+    {
+        int index = info.getIndex();
+        ClassInfo parent = info.getParent();
+
+        known[index] = parent == null ? info.getParentName() == null : known[parent.getIndex()];
+
+        int offset = parent == null ? 0 : size[parent.getIndex()];
+        start[index] = offset;
+        fieldOffsets[index] = new int[info.getFieldCount()];
+        if(packed)
+        {
+            pack(info, parent);
+        }
+        else
+        {
+            for(int i = 0; i < info.getFieldCount(); i++)
+            {
+                fieldOffsets[index][i] = offset;
+                offset += sizeOf(info.getFieldType(info.getField(i)));
+            }
+            size[index] = offset;
+        }
+
+        int slots = parent == null ? 0 : tableSize[parent.getIndex()];
+        methodSlots[index] = new int[info.getMethods().size()];
+        for(int i = 0; i < info.getMethods().size(); i++)
+        {
+            int name = info.getMethods().get(i).getId();
+
+            // the last class that added a slot for this name is a parent exactly when the method overrides,
+            // classes that were laid out after that parent and before this class are all below it, so they only override it
+            ClassInfo owner = slotOwner[name];
+            if(parent != null && owner != null && parent.isSubclassOf(owner))
+            {
+                methodSlots[index][i] = slotOfName[name];
+            }
+            else
+            {
+                methodSlots[index][i] = slots;
+                slotOfName[name] = slots++;
+                slotOwner[name] = info;
+            }
+        }
+        tableSize[index] = slots;
+    }
+
+    // places the fields of a class for the packed layout, the biggest ones first
+    private void pack(ClassInfo info, ClassInfo parent)
+    {
+        int index = info.getIndex();
+        int end = start[index];
+
+        // the holes of the parent are shared with its other children, the class fills a copy of them
+        int[] inherited = parent == null ? NO_HOLES : holes[parent.getIndex()];
+        int[] free = Arrays.copyOf(inherited, inherited.length + 4);
+        int freeCount = inherited.length;
+
+        for(int fieldSize = 8; fieldSize >= 1; fieldSize /= 2)
+        {
+            for(int i = 0; i < info.getFieldCount(); i++)
+            {
+                if(sizeOf(info.getFieldType(info.getField(i))) != fieldSize) continue;
+
+                // a field adds at most two holes
+                if(free.length < freeCount + 4) free = Arrays.copyOf(free, freeCount * 2 + 4);
+
+                // the first hole the field fits in at a multiple of its size
+                int h = 0;
+                while(h < freeCount && align(free[h], fieldSize) + fieldSize > free[h + 1]) h += 2;
+
+                int offset;
+                if(h < freeCount)
+                {
+                    // the hole is replaced by what is left of it before and after the field
+                    int before = free[h];
+                    int after = free[h + 1];
+                    offset = align(before, fieldSize);
+                    System.arraycopy(free, h + 2, free, h, freeCount - h - 2);
+                    freeCount -= 2;
+                    if(offset > before) { free[freeCount++] = before; free[freeCount++] = offset; }
+                    if(offset + fieldSize < after) { free[freeCount++] = offset + fieldSize; free[freeCount++] = after; }
+                }
+                else
+                {
+                    // the padding before a field at the end is a hole for the smaller fields
+                    offset = align(end, fieldSize);
+                    if(offset > end) { free[freeCount++] = end; free[freeCount++] = offset; }
+                    end = offset + fieldSize;
+                }
+                fieldOffsets[index][i] = offset;
+            }
+        }
+
+        size[index] = end;
+        holes[index] = Arrays.copyOf(free, freeCount);
+
+        // the same fields in declaration order, after the whole object of the parent
+        int unpacked = parent == null ? 0 : unpackedSize[parent.getIndex()];
+        for(int i = 0; i < info.getFieldCount(); i++)
+        {
+            int fieldSize = sizeOf(info.getFieldType(info.getField(i)));
+            unpacked = align(unpacked, fieldSize) + fieldSize;
+        }
+        unpackedSize[index] = align(unpacked, WORD);
+    }
+
+    // the first multiple of alignment that is not below offset, alignment is a power of 2
+    private static int align(int offset, int alignment)
+    {
+        return (offset + alignment - 1) & -alignment;
+    }
+
+    // bytes of a field of the given type
+    public static int sizeOf(SemType type)
+    {
+        if(type == SemType.INT) return 4; // integer is 4 bytes
+        if(type == SemType.BOOLEAN) return 1; // boolean is 1 byte
+        return 8; // everything else is a pointer so 8 bytes
+    }
+
+    // checking if the offsets of the class are known, they are not in a class that inherits from a class that has not been declared or from itself
+    public boolean isKnown(ClassInfo info)
+    {
+        return known[info.getIndex()];
+    }
+
+    // first byte of the fields the class declares
+    public int getFieldsStart(ClassInfo info)
+    {
+        return start[info.getIndex()];
+    }
+
+    // bytes of the fields of an object of the class
+    public int getSize(ClassInfo info)
+    {
+        return size[info.getIndex()];
+    }
+
+    public boolean isPacked()
+    {
+        return packed;
+    }
+
+    // bytes of an object of the class, its fields rounded up to whole words
+    public int getObjectSize(ClassInfo info)
+    {
+        return align(getSize(info), WORD);
+    }
+
+    // bytes an object of the class would take with aligned fields in declaration order, only for a packed layout
+    public int getUnpackedObjectSize(ClassInfo info)
+    {
+        if(!packed) throw new IllegalStateException("the layout is not packed");
+        return unpackedSize[info.getIndex()];
+    }
+
+    // offset of the i-th field the class declares
+    public int getFieldOffset(ClassInfo info, int i)
+    {
+        return fieldOffsets[info.getIndex()][i];
+    }
+
+    // slot of the i-th method the class declares
+    public int getMethodSlot(ClassInfo info, int i)
+    {
+        return methodSlots[info.getIndex()][i];
+    }
+
+    // offset in the vtable of the i-th method the class declares
+    public int getMethodOffset(ClassInfo info, int i)
+    {
+        return getMethodSlot(info, i) * METHOD_SIZE;
+    }
+
+    // checking if the i-th method the class declares takes the slot of a method of a parent class
+    public boolean overrides(ClassInfo info, int i)
+    {
+        ClassInfo parent = info.getParent();
+        return parent != null && getMethodSlot(info, i) < tableSize[parent.getIndex()];
+    }
+
+    // number of slots of the vtable of the class
+    public int getTableSize(ClassInfo info)
+    {
+        return tableSize[info.getIndex()];
+    }
+
+    // the method every slot of the vtable of the class runs, the array is shared and must not be changed
+    public MethodInfo[] getVtable(ClassInfo info)
+    {
+        if(vtables[info.getIndex()] != null) return vtables[info.getIndex()];
+
+        // the parents that have no vtable yet are built first, from the top, without recursion
+        ClassInfo top = info;
+        while(top.getParent() != null && vtables[top.getParent().getIndex()] == null) top = top.getParent();
+
+        ClassInfo[] chain = new ClassInfo[depth(info, top)];
+        int length = 0;
+        for(ClassInfo c = info; c != top.getParent(); c = c.getParent()) chain[length++] = c;
+
+        for(int k = length - 1; k >= 0; k--)
+        {
+            ClassInfo c = chain[k];
+            ClassInfo parent = c.getParent();
+            MethodInfo[] vtable = parent == null ? new MethodInfo[tableSize[c.getIndex()]] : Arrays.copyOf(vtables[parent.getIndex()], tableSize[c.getIndex()]);
+            for(int i = 0; i < c.getMethods().size(); i++) vtable[methodSlots[c.getIndex()][i]] = c.getMethods().get(i);
+            vtables[c.getIndex()] = vtable;
+        }
+
+        return vtables[info.getIndex()];
+    }
+
+    // number of classes from info up to and including top
+    private static int depth(ClassInfo info, ClassInfo top)
+    {
+        int depth = 1;
+        for(ClassInfo c = info; c != top; c = c.getParent()) depth++;
+        return depth;
+    }
+}
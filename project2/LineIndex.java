@@ -0,0 +1,102 @@
+import java.util.Arrays;
+
+/**
+ * The offsets where the lines of a source text start.
+ * Line and column of any offset are computed on demand with a binary search,
+ * counted the same way JavaCharStream counts them, instead of being stored
+ * for every character.
+ */
+public class LineIndex {
+
+    // offset of the first character of every line
+    private final int[] starts;
+    private final int lines;
+    // offsets of the tab characters, they are the only ones wider than one column
+    private final int[] tabs;
+    private final int tabCount;
+    private final int tabSize;
+    // line of the last lookup, lookups usually stay on the same line
+    private int last;
+
+    public LineIndex(char[] text, int length, int tabSize)
+    {
+        int[] starts = new int[16];
+        int lines = 1;
+        int[] tabs = new int[0];
+        int tabCount = 0;
+
+        for(int i = 0; i < length; i++)
+        {
+            char c = text[i];
+
+            // a line ends after \n, or after \r when no \n follows it
+            if(c == '\n' || (c == '\r' && (i + 1 == length || text[i+1] != '\n')))
+            {
+                if(lines == starts.length) starts = Arrays.copyOf(starts, lines * 2);
+                starts[lines++] = i + 1;
+            }
+            else if(c == '\t')
+            {
+                if(tabCount == tabs.length) tabs = Arrays.copyOf(tabs, Math.max(16, tabCount * 2));
+                tabs[tabCount++] = i;
+            }
+        }
+
+        this.starts = starts;
+        this.lines = lines;
+        this.tabs = tabs;
+        this.tabCount = tabCount;
+        this.tabSize = tabSize;
+    }
+
+    // number of the line that contains the offset, starting from 1
+    public int line(int offset)
+    {
+        return find(offset) + 1;
+    }
+
+    // column of the offset inside its line, starting from 1 with tabs expanded
+    public int column(int offset)
+    {
+        int start = starts[find(offset)];
+        if(tabCount == 0 || tabs[tabCount - 1] < start) return offset - start + 1;
+
+        // first tab of the line
+        int t = Arrays.binarySearch(tabs, 0, tabCount, start);
+        if(t < 0) t = -t - 1;
+
+        int column = 0;
+        int from = start;
+        for(; t < tabCount && tabs[t] <= offset; t++)
+        {
+            column += tabs[t] - from;
+            column += tabSize - (column % tabSize);
+            from = tabs[t] + 1;
+        }
+
+        return column + offset - from + 1;
+    }
+
+    // index of the line that contains the offset
+    private int find(int offset)
+    {
+        if(starts[last] <= offset)
+        {
+            // the same line or the next one, the stream moves forward through the text
+            if(last + 1 == lines || offset < starts[last + 1]) return last;
+            if(last + 2 == lines || offset < starts[last + 2]) return ++last;
+        }
+
+        int low = 0;
+        int high = lines - 1;
+        while(low < high)
+        {
+            int mid = (low + high + 1) >>> 1;
+            if(starts[mid] <= offset) low = mid;
+            else high = mid - 1;
+        }
+
+        last = low;
+        return low;
+    }
+}
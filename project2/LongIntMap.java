@@ -0,0 +1,130 @@
+import java.util.Arrays;
+
+/**
+ * A map from pairs of non negative ints to non negative ints, for tables that
+ * are keyed on two ids at once like a class and one of its members. The pair
+ * is packed into one long and kept with its value in two arrays with open
+ * addressing, so one table holds the members of every class without an
+ * object per class or per entry.
+ */
+public class LongIntMap {
+
+    // returned by get for a key that has no value
+    public static final int MISSING = -1;
+
+    // key + 1 of every used slot, 0 for a free slot
+    private long[] keys;
+    private int[] values;
+    private int size;
+    // log2 of the number of slots
+    private int bits;
+    // log2 of the number of slots the map was made with
+    private final int initialBits;
+
+    public LongIntMap()
+    {
+        this(8);
+    }
+
+    // a map that holds at least the given number of entries before it grows
+    public LongIntMap(int expected)
+    {
+        bits = 3;
+        while((1 << bits) < expected * 2) bits++;
+        initialBits = bits;
+        keys = new long[1 << bits];
+        values = new int[1 << bits];
+    }
+
+    // the key of a pair of ids
+    public static long pack(int high, int low)
+    {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    // returns the value of a pair, MISSING if it has none
+    public int get(int high, int low)
+    {
+        long key = pack(high, low) + 1;
+        int mask = keys.length - 1;
+        for(int i = slot(key); keys[i] != 0; i = (i + 1) & mask)
+        {
+            if(keys[i] == key) return values[i];
+        }
+
+        return MISSING;
+    }
+
+    public boolean containsKey(int high, int low)
+    {
+        return get(high, low) != MISSING;
+    }
+
+    // adds an entry, returns false and keeps the old value if the pair already has one
+    public boolean add(int high, int low, int value)
+    {
+        // the pair (-1, -1) would be stored as a free slot and the entry would be lost
+        if(high < 0 || low < 0) throw new IllegalArgumentException("negative key (" + high + ", " + low + ")");
+
+        long key = pack(high, low) + 1;
+        int mask = keys.length - 1;
+        int i = slot(key);
+        while(keys[i] != 0)
+        {
+            if(keys[i] == key) return false;
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        values[i] = value;
+
+        // the table is kept at most half full
+        if(++size * 2 > keys.length) rehash();
+        return true;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    // removes every entry, a map that is mostly free slots gets back the arrays it was made with
+    public void clear()
+    {
+        if(size == 0) return;
+        // one large table would otherwise be filled again on every clear, however few entries the next ones have
+        if(keys.length > 4 * size && bits > initialBits)
+        {
+            bits = initialBits;
+            keys = new long[1 << bits];
+            values = new int[1 << bits];
+        }
+        else Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    // Fibonacci hashing over both halves of the key
+    private int slot(long key)
+    {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - bits));
+    }
+
+    private void rehash()
+    {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        bits++;
+        keys = new long[1 << bits];
+        values = new int[1 << bits];
+
+        int mask = keys.length - 1;
+        for(int j = 0; j < oldKeys.length; j++)
+        {
+            if(oldKeys[j] == 0) continue;
+            int i = slot(oldKeys[j]);
+            while(keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+}
@@ -0,0 +1,102 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The declaration of a single method: its return type and its parameters, hashed by the ids of their names.
+ * Local variables belong to the body and are kept by the visitor that checks it.
+ */
+public class MethodInfo {
+
+    private final ClassInfo owner;
+    // id of the name of the method, -1 for main that is not called by name
+    private final int id;
+    private final String name;
+    private final SemType returnType;
+    // types of the parameters, in declaration order
+    private final List<SemType> parameterTypes;
+    // type id of every parameter, keyed on the id of its name
+    private final IntIntMap parameters;
+    // where the name of the method is in the source
+    private int line;
+    private int column;
+
+    MethodInfo(ClassInfo owner, int id, String name, SemType returnType)
+    {
+        this.owner = owner;
+        this.id = id;
+        this.name = name;
+        this.returnType = returnType;
+        parameterTypes = new ArrayList<SemType>();
+        parameters = new IntIntMap();
+    }
+
+    public ClassInfo getOwner()
+    {
+        return owner;
+    }
+
+    public int getId()
+    {
+        return id;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public SemType getReturnType()
+    {
+        return returnType;
+    }
+
+    public int getLine()
+    {
+        return line;
+    }
+
+    public int getColumn()
+    {
+        return column;
+    }
+
+    void setPosition(int line, int column)
+    {
+        this.line = line;
+        this.column = column;
+    }
+
+    public int getParameterCount()
+    {
+        return parameterTypes.size();
+    }
+
+    // type of the i-th parameter
+    public SemType getParameterType(int i)
+    {
+        return parameterTypes.get(i);
+    }
+
+    public List<SemType> getParameterTypes()
+    {
+        return Collections.unmodifiableList(parameterTypes);
+    }
+
+    // adds a parameter, returns false if the method already has a parameter with the same name
+    public boolean addParameter(int parameter, SemType type)
+    {
+        owner.getTable().checkWritable();
+        if(!parameters.add(parameter, type.getId())) return false;
+        parameterTypes.add(type);
+        return true;
+    }
+
+    // returns the type of a parameter, null if there is none
+    public SemType lookupParameter(int parameter)
+    {
+        int type = parameters.get(parameter);
+        if(type == IntIntMap.MISSING) return null;
+        return owner.getTable().type(type);
+    }
+}
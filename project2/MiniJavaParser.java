@@ -4,6 +4,164 @@ import java.util.Vector;
 
 
 public class MiniJavaParser implements MiniJavaParserConstants {
+   static final int AND_EXPRESSION = 0;
+   static final int COMPARE_EXPRESSION = 1;
+   static final int PLUS_EXPRESSION = 2;
+   static final int MINUS_EXPRESSION = 3;
+   static final int TIMES_EXPRESSION = 4;
+   static final int ARRAY_LOOKUP = 5;
+   static final int ARRAY_LENGTH = 6;
+   static final int MESSAGE_SEND = 7;
+   static final int CLAUSE = 8;
+   private Token kindStart;
+   private int kindOfStart;
+   private Token[] innerOpen;
+   private Token[] innerClose;
+   private int innerCount;
+   private int innerNext;
+   private int[] opened = new int[16];
+   int expressionKind()
+   {
+      Token start = getToken(1);
+      if ( start == kindStart )
+         return kindOfStart;
+      boolean primary = start.kind != NOT;
+      Token op = nextToken(skipClause(start));
+      int kind = CLAUSE;
+      switch (op.kind)
+      {
+         case AND :
+            kind = AND_EXPRESSION;
+            break;
+         case LT :
+            if ( primary )
+               kind = COMPARE_EXPRESSION;
+            break;
+         case PLUS :
+            if ( primary )
+               kind = PLUS_EXPRESSION;
+            break;
+         case MINUS :
+            if ( primary )
+               kind = MINUS_EXPRESSION;
+            break;
+         case TIMES :
+            if ( primary )
+               kind = TIMES_EXPRESSION;
+            break;
+         case LSQPAREN :
+            if ( primary )
+               kind = ARRAY_LOOKUP;
+            break;
+         case DOT :
+            Token member = nextToken(op);
+            if ( primary && member.kind == LENGTH )
+               kind = ARRAY_LENGTH;
+            else
+               if ( primary && member.kind == IDENTIFIER&& nextToken(member).kind == LPAREN )
+                  kind = MESSAGE_SEND;
+            break;
+      }
+
+      kindStart = start;
+      kindOfStart = kind;
+      return kind;
+   }
+   private Token skipClause(Token t)
+   {
+      while ( t.kind == NOT )
+         t = nextToken(t);
+      return skipPrimaryExpression(t);
+   }
+   private Token skipPrimaryExpression(Token t)
+   {
+      switch (t.kind)
+      {
+         case LPAREN : return matchingBracket(t);
+         case NEW :
+            Token type = nextToken(t);
+            if ( type.kind == BOOLEAN || type.kind == INTEGER )
+               return matchingBracket(nextToken(type));
+            return nextToken(nextToken(type));
+         default : return t;
+      }
+
+   }
+   private Token matchingBracket(Token open)
+   {
+      while ( innerNext < innerCount )
+      {
+         Token o = innerOpen[innerNext];
+         Token close = innerClose[innerNext];
+         innerOpen[innerNext] = null;
+         innerClose[innerNext] = null;
+         innerNext++;
+         if ( o == open && close != null )
+            return close;
+      }
+      innerCount = 0;
+      innerNext = 0;
+      if ( open.kind != LPAREN && open.kind != LSQPAREN )
+         return open;
+      int depth = 0;
+      opened[depth++] = -1;
+      Token t = open;
+      while ( true )
+      {
+         t = nextToken(t);
+         if ( t.kind == 0 )
+            return t;
+         if ( t.kind == LPAREN || t.kind == LSQPAREN )
+         {
+            if ( depth == opened.length )
+               opened = java.util.Arrays.copyOf(opened,depth * 2);
+            opened[depth++] = addInner(t);
+         }
+         else
+            if ( t.kind == RPAREN || t.kind == RSQPAREN )
+            {
+               int o = opened[--depth];
+               if ( depth == 0 )
+                  return t;
+               innerClose[o] = t;
+            }
+      }
+   }
+   private int addInner(Token open)
+   {
+      if ( innerOpen == null )
+      {
+         innerOpen = new Token[16];
+         innerClose = new Token[16];
+      }
+      else
+         if ( innerCount == innerOpen.length )
+         {
+            innerOpen = java.util.Arrays.copyOf(innerOpen,innerCount * 2);
+            innerClose = java.util.Arrays.copyOf(innerClose,innerCount * 2);
+         }
+      innerOpen[innerCount] = open;
+      return innerCount++;
+   }
+   private Token nextToken(Token t)
+   {
+      if ( t.next == null )
+         t.next = token_source.getNextToken();
+      return t.next;
+   }
+   public void Classes(ClassHandler handler) throws Exception
+   {
+      handler.handle(MainClass());
+      for ( NextClass next = NextClass(); next.f0.which == 0; next = NextClass() )
+         handler.handle(next.f0.choice);
+   }
+   public Outline Skim() throws ParseException
+   {
+      Outline outline = new Outline(SkimmedMainClass().f1);
+      for ( NextSkimmedClass next = NextSkimmedClass(); next.f0.which == 0; next = NextSkimmedClass() )
+         outline.addClass((SkimmedClass)next.f0.choice);
+      return outline;
+   }
 
   final public Goal Goal() throws ParseException {
    MainClass n0;
@@ -33,6 +191,235 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     throw new Error("Missing return statement in function");
   }
 
+  final public NextClass NextClass() throws ParseException {
+   NodeChoice n0;
+   TypeDeclaration n1;
+   NodeToken n2;
+   Token n3;
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case CLASS:
+      n1 = TypeDeclaration();
+        n0 = new NodeChoice(n1, 0);
+      break;
+    case 0:
+      n3 = jj_consume_token(0);
+         n3.beginColumn++; n3.endColumn++;
+         n2 = JTBToolkit.makeNodeToken(n3);
+        n0 = new NodeChoice(n2, 1);
+      break;
+    default:
+      jj_la1[1] = jj_gen;
+      jj_consume_token(-1);
+      throw new ParseException();
+    }
+     {if (true) return new NextClass(n0);}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public SkimmedMainClass SkimmedMainClass() throws ParseException {
+   NodeToken n0;
+   Token n1;
+   Identifier n2;
+   NodeToken n3;
+   Token n4;
+   NodeToken n5;
+   Token n6;
+   NodeToken n7;
+   Token n8;
+   NodeToken n9;
+   Token n10;
+   NodeToken n11;
+   Token n12;
+   NodeToken n13;
+   Token n14;
+   NodeToken n15;
+   Token n16;
+   NodeToken n17;
+   Token n18;
+   NodeToken n19;
+   Token n20;
+   Identifier n21;
+   NodeToken n22;
+   Token n23;
+   NodeToken n24;
+   Token n25;
+   NodeToken n26;
+   Token n27;
+   NodeToken n28;
+   Token n29;
+    n1 = jj_consume_token(CLASS);
+                n0 = JTBToolkit.makeNodeToken(n1);
+    n2 = Identifier();
+    n4 = jj_consume_token(LBRACE);
+            n3 = JTBToolkit.makeNodeToken(n4);
+    n6 = jj_consume_token(PUBLIC);
+                 n5 = JTBToolkit.makeNodeToken(n6);
+    n8 = jj_consume_token(STATIC);
+                 n7 = JTBToolkit.makeNodeToken(n8);
+    n10 = jj_consume_token(VOID);
+                n9 = JTBToolkit.makeNodeToken(n10);
+    n12 = jj_consume_token(MAIN);
+                n11 = JTBToolkit.makeNodeToken(n12);
+    n14 = jj_consume_token(LPAREN);
+             n13 = JTBToolkit.makeNodeToken(n14);
+    n16 = jj_consume_token(STRING);
+                  n15 = JTBToolkit.makeNodeToken(n16);
+    n18 = jj_consume_token(LSQPAREN);
+             n17 = JTBToolkit.makeNodeToken(n18);
+    n20 = jj_consume_token(RSQPAREN);
+             n19 = JTBToolkit.makeNodeToken(n20);
+    n21 = Identifier();
+    n23 = jj_consume_token(RPAREN);
+             n22 = JTBToolkit.makeNodeToken(n23);
+    n25 = jj_consume_token(LBRACE);
+             n24 = JTBToolkit.makeNodeToken(n25);
+    n27 = jj_consume_token(RBRACE);
+             n26 = JTBToolkit.makeNodeToken(n27);
+    n29 = jj_consume_token(RBRACE);
+             n28 = JTBToolkit.makeNodeToken(n29);
+     {if (true) return new SkimmedMainClass(n0,n2,n3,n5,n7,n9,n11,n13,n15,n17,n19,n21,n22,n24,n26,n28);}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public NextSkimmedClass NextSkimmedClass() throws ParseException {
+   NodeChoice n0;
+   SkimmedClass n1;
+   NodeToken n2;
+   Token n3;
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case CLASS:
+      n1 = SkimmedClass();
+        n0 = new NodeChoice(n1, 0);
+      break;
+    case 0:
+      n3 = jj_consume_token(0);
+         n3.beginColumn++; n3.endColumn++;
+         n2 = JTBToolkit.makeNodeToken(n3);
+        n0 = new NodeChoice(n2, 1);
+      break;
+    default:
+      jj_la1[2] = jj_gen;
+      jj_consume_token(-1);
+      throw new ParseException();
+    }
+     {if (true) return new NextSkimmedClass(n0);}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public SkimmedClass SkimmedClass() throws ParseException {
+   NodeToken n0;
+   Token n1;
+   Identifier n2;
+   NodeOptional n3 = new NodeOptional();
+   NodeSequence n4;
+   NodeToken n5;
+   Token n6;
+   Identifier n7;
+   NodeToken n8;
+   Token n9;
+   NodeListOptional n10 = new NodeListOptional();
+   VarDeclaration n11;
+   NodeListOptional n12 = new NodeListOptional();
+   SkimmedMethod n13;
+   NodeToken n14;
+   Token n15;
+    n1 = jj_consume_token(CLASS);
+                n0 = JTBToolkit.makeNodeToken(n1);
+    n2 = Identifier();
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case EXTENDS:
+        n4 = new NodeSequence(2);
+      n6 = jj_consume_token(EXTENDS);
+                     n5 = JTBToolkit.makeNodeToken(n6);
+        n4.addNode(n5);
+      n7 = Identifier();
+        n4.addNode(n7);
+        n3.addNode(n4);
+      break;
+    default:
+      jj_la1[3] = jj_gen;
+      ;
+    }
+    n9 = jj_consume_token(LBRACE);
+            n8 = JTBToolkit.makeNodeToken(n9);
+    label_2:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case BOOLEAN:
+      case INTEGER:
+      case IDENTIFIER:
+        ;
+        break;
+      default:
+        jj_la1[4] = jj_gen;
+        break label_2;
+      }
+      n11 = VarDeclaration();
+        n10.addNode(n11);
+    }
+     n10.nodes.trimToSize();
+    label_3:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case PUBLIC:
+        ;
+        break;
+      default:
+        jj_la1[5] = jj_gen;
+        break label_3;
+      }
+      n13 = SkimmedMethod();
+        n12.addNode(n13);
+    }
+     n12.nodes.trimToSize();
+    n15 = jj_consume_token(RBRACE);
+             n14 = JTBToolkit.makeNodeToken(n15);
+     {if (true) return new SkimmedClass(n0,n2,n3,n8,n10,n12,n14);}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public SkimmedMethod SkimmedMethod() throws ParseException {
+   NodeToken n0;
+   Token n1;
+   Type n2;
+   Identifier n3;
+   NodeToken n4;
+   Token n5;
+   NodeOptional n6 = new NodeOptional();
+   FormalParameterList n7;
+   NodeToken n8;
+   Token n9;
+   NodeToken n10;
+   Token n11;
+   NodeToken n12;
+   Token n13;
+    n1 = jj_consume_token(PUBLIC);
+                 n0 = JTBToolkit.makeNodeToken(n1);
+    n2 = Type();
+    n3 = Identifier();
+    n5 = jj_consume_token(LPAREN);
+            n4 = JTBToolkit.makeNodeToken(n5);
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case BOOLEAN:
+    case INTEGER:
+    case IDENTIFIER:
+      n7 = FormalParameterList();
+        n6.addNode(n7);
+      break;
+    default:
+      jj_la1[6] = jj_gen;
+      ;
+    }
+    n9 = jj_consume_token(RPAREN);
+            n8 = JTBToolkit.makeNodeToken(n9);
+    n11 = jj_consume_token(LBRACE);
+             n10 = JTBToolkit.makeNodeToken(n11);
+    n13 = jj_consume_token(RBRACE);
+             n12 = JTBToolkit.makeNodeToken(n13);
+     {if (true) return new SkimmedMethod(n0,n2,n3,n4,n6,n8,n10,n12);}
+    throw new Error("Missing return statement in function");
+  }
+
   final public MainClass MainClass() throws ParseException {
    NodeToken n0;
    Token n1;
@@ -94,18 +481,18 @@ public class MiniJavaParser implements MiniJavaParserConstants {
              n22 = JTBToolkit.makeNodeToken(n23);
     n25 = jj_consume_token(LBRACE);
              n24 = JTBToolkit.makeNodeToken(n25);
-    label_2:
+    label_4:
     while (true) {
       if (jj_2_1(2)) {
         ;
       } else {
-        break label_2;
+        break label_4;
       }
       n27 = VarDeclaration();
         n26.addNode(n27);
     }
      n26.nodes.trimToSize();
-    label_3:
+    label_5:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case LBRACE:
@@ -116,8 +503,8 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         ;
         break;
       default:
-        jj_la1[1] = jj_gen;
-        break label_3;
+        jj_la1[7] = jj_gen;
+        break label_5;
       }
       n29 = Statement();
         n28.addNode(n29);
@@ -145,7 +532,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n0 = new NodeChoice(n2, 1);
         break;
       default:
-        jj_la1[2] = jj_gen;
+        jj_la1[8] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -171,7 +558,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     n2 = Identifier();
     n4 = jj_consume_token(LBRACE);
             n3 = JTBToolkit.makeNodeToken(n4);
-    label_4:
+    label_6:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case BOOLEAN:
@@ -180,22 +567,22 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         ;
         break;
       default:
-        jj_la1[3] = jj_gen;
-        break label_4;
+        jj_la1[9] = jj_gen;
+        break label_6;
       }
       n6 = VarDeclaration();
         n5.addNode(n6);
     }
      n5.nodes.trimToSize();
-    label_5:
+    label_7:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case PUBLIC:
         ;
         break;
       default:
-        jj_la1[4] = jj_gen;
-        break label_5;
+        jj_la1[10] = jj_gen;
+        break label_7;
       }
       n8 = MethodDeclaration();
         n7.addNode(n8);
@@ -230,7 +617,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     n5 = Identifier();
     n7 = jj_consume_token(LBRACE);
             n6 = JTBToolkit.makeNodeToken(n7);
-    label_6:
+    label_8:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case BOOLEAN:
@@ -239,22 +626,22 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         ;
         break;
       default:
-        jj_la1[5] = jj_gen;
-        break label_6;
+        jj_la1[11] = jj_gen;
+        break label_8;
       }
       n9 = VarDeclaration();
         n8.addNode(n9);
     }
      n8.nodes.trimToSize();
-    label_7:
+    label_9:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case PUBLIC:
         ;
         break;
       default:
-        jj_la1[6] = jj_gen;
-        break label_7;
+        jj_la1[12] = jj_gen;
+        break label_9;
       }
       n11 = MethodDeclaration();
         n10.addNode(n11);
@@ -317,25 +704,25 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n6.addNode(n7);
       break;
     default:
-      jj_la1[7] = jj_gen;
+      jj_la1[13] = jj_gen;
       ;
     }
     n9 = jj_consume_token(RPAREN);
             n8 = JTBToolkit.makeNodeToken(n9);
     n11 = jj_consume_token(LBRACE);
              n10 = JTBToolkit.makeNodeToken(n11);
-    label_8:
+    label_10:
     while (true) {
       if (jj_2_3(2)) {
         ;
       } else {
-        break label_8;
+        break label_10;
       }
       n13 = VarDeclaration();
         n12.addNode(n13);
     }
      n12.nodes.trimToSize();
-    label_9:
+    label_11:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case LBRACE:
@@ -346,8 +733,8 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         ;
         break;
       default:
-        jj_la1[8] = jj_gen;
-        break label_9;
+        jj_la1[14] = jj_gen;
+        break label_11;
       }
       n15 = Statement();
         n14.addNode(n15);
@@ -385,15 +772,15 @@ public class MiniJavaParser implements MiniJavaParserConstants {
   final public FormalParameterTail FormalParameterTail() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    FormalParameterTerm n1;
-    label_10:
+    label_12:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 47:
+      case 48:
         ;
         break;
       default:
-        jj_la1[9] = jj_gen;
-        break label_10;
+        jj_la1[15] = jj_gen;
+        break label_12;
       }
       n1 = FormalParameterTerm();
         n0.addNode(n1);
@@ -407,7 +794,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
    NodeToken n0;
    Token n1;
    FormalParameter n2;
-    n1 = jj_consume_token(47);
+    n1 = jj_consume_token(48);
             n0 = JTBToolkit.makeNodeToken(n1);
     n2 = FormalParameter();
      {if (true) return new FormalParameterTerm(n0,n2);}
@@ -438,7 +825,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n0 = new NodeChoice(n4, 3);
         break;
       default:
-        jj_la1[10] = jj_gen;
+        jj_la1[16] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -461,7 +848,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n0 = new NodeChoice(n2, 1);
       break;
     default:
-      jj_la1[11] = jj_gen;
+      jj_la1[17] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -535,7 +922,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n0 = new NodeChoice(n1, 0);
       break;
     default:
-      jj_la1[12] = jj_gen;
+      jj_la1[18] = jj_gen;
       if (jj_2_5(2)) {
         n2 = AssignmentStatement();
         n0 = new NodeChoice(n2, 1);
@@ -557,7 +944,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n0 = new NodeChoice(n6, 5);
           break;
         default:
-          jj_la1[13] = jj_gen;
+          jj_la1[19] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -576,7 +963,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
    Token n5;
     n1 = jj_consume_token(LBRACE);
             n0 = JTBToolkit.makeNodeToken(n1);
-    label_11:
+    label_13:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case LBRACE:
@@ -587,8 +974,8 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         ;
         break;
       default:
-        jj_la1[14] = jj_gen;
-        break label_11;
+        jj_la1[20] = jj_gen;
+        break label_13;
       }
       n3 = Statement();
         n2.addNode(n3);
@@ -726,28 +1113,28 @@ public class MiniJavaParser implements MiniJavaParserConstants {
    ArrayLength n7;
    MessageSend n8;
    Clause n9;
-    if (jj_2_7(2147483647)) {
+    if (expressionKind() == AND_EXPRESSION) {
       n1 = AndExpression();
         n0 = new NodeChoice(n1, 0);
-    } else if (jj_2_8(2147483647)) {
+    } else if (expressionKind() == COMPARE_EXPRESSION) {
       n2 = CompareExpression();
         n0 = new NodeChoice(n2, 1);
-    } else if (jj_2_9(2147483647)) {
+    } else if (expressionKind() == PLUS_EXPRESSION) {
       n3 = PlusExpression();
         n0 = new NodeChoice(n3, 2);
-    } else if (jj_2_10(2147483647)) {
+    } else if (expressionKind() == MINUS_EXPRESSION) {
       n4 = MinusExpression();
         n0 = new NodeChoice(n4, 3);
-    } else if (jj_2_11(2147483647)) {
+    } else if (expressionKind() == TIMES_EXPRESSION) {
       n5 = TimesExpression();
         n0 = new NodeChoice(n5, 4);
-    } else if (jj_2_12(2147483647)) {
+    } else if (expressionKind() == ARRAY_LOOKUP) {
       n6 = ArrayLookup();
         n0 = new NodeChoice(n6, 5);
-    } else if (jj_2_13(2147483647)) {
+    } else if (expressionKind() == ARRAY_LENGTH) {
       n7 = ArrayLength();
         n0 = new NodeChoice(n7, 6);
-    } else if (jj_2_14(2147483647)) {
+    } else if (expressionKind() == MESSAGE_SEND) {
       n8 = MessageSend();
         n0 = new NodeChoice(n8, 7);
     } else {
@@ -764,7 +1151,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n0 = new NodeChoice(n9, 8);
         break;
       default:
-        jj_la1[15] = jj_gen;
+        jj_la1[21] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -831,7 +1218,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
    Token n2;
    PrimaryExpression n3;
     n0 = PrimaryExpression();
-    n2 = jj_consume_token(48);
+    n2 = jj_consume_token(TIMES);
             n1 = JTBToolkit.makeNodeToken(n2);
     n3 = PrimaryExpression();
      {if (true) return new TimesExpression(n0,n1,n3);}
@@ -887,20 +1274,10 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     n3 = Identifier();
     n5 = jj_consume_token(LPAREN);
             n4 = JTBToolkit.makeNodeToken(n5);
-    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case LPAREN:
-    case NOT:
-    case FALSE:
-    case NEW:
-    case THIS:
-    case TRUE:
-    case INTEGER_LITERAL:
-    case IDENTIFIER:
+    if (jj_2_7(1)) {
       n7 = ExpressionList();
         n6.addNode(n7);
-      break;
-    default:
-      jj_la1[16] = jj_gen;
+    } else {
       ;
     }
     n9 = jj_consume_token(RPAREN);
@@ -921,15 +1298,15 @@ public class MiniJavaParser implements MiniJavaParserConstants {
   final public ExpressionTail ExpressionTail() throws ParseException {
    NodeListOptional n0 = new NodeListOptional();
    ExpressionTerm n1;
-    label_12:
+    label_14:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 47:
+      case 48:
         ;
         break;
       default:
-        jj_la1[17] = jj_gen;
-        break label_12;
+        jj_la1[22] = jj_gen;
+        break label_14;
       }
       n1 = ExpressionTerm();
         n0.addNode(n1);
@@ -943,7 +1320,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
    NodeToken n0;
    Token n1;
    Expression n2;
-    n1 = jj_consume_token(47);
+    n1 = jj_consume_token(48);
             n0 = JTBToolkit.makeNodeToken(n1);
     n2 = Expression();
      {if (true) return new ExpressionTerm(n0,n2);}
@@ -970,7 +1347,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n0 = new NodeChoice(n2, 1);
       break;
     default:
-      jj_la1[18] = jj_gen;
+      jj_la1[23] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1010,8 +1387,8 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n0 = new NodeChoice(n5, 4);
       break;
     default:
-      jj_la1[19] = jj_gen;
-      if (jj_2_15(3)) {
+      jj_la1[24] = jj_gen;
+      if (jj_2_8(3)) {
         n6 = ArrayAllocationExpression();
         n0 = new NodeChoice(n6, 5);
       } else {
@@ -1025,7 +1402,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
         n0 = new NodeChoice(n8, 7);
           break;
         default:
-          jj_la1[20] = jj_gen;
+          jj_la1[25] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -1084,10 +1461,10 @@ public class MiniJavaParser implements MiniJavaParserConstants {
    NodeChoice n0;
    BooleanArrayAllocationExpression n1;
    IntegerArrayAllocationExpression n2;
-    if (jj_2_16(3)) {
+    if (jj_2_9(3)) {
       n1 = BooleanArrayAllocationExpression();
         n0 = new NodeChoice(n1, 0);
-    } else if (jj_2_17(3)) {
+    } else if (jj_2_10(3)) {
       n2 = IntegerArrayAllocationExpression();
         n0 = new NodeChoice(n2, 1);
     } else {
@@ -1259,423 +1636,320 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     finally { jj_save(9, xla); }
   }
 
-  private boolean jj_2_11(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_11(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(10, xla); }
-  }
-
-  private boolean jj_2_12(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_12(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(11, xla); }
-  }
-
-  private boolean jj_2_13(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_13(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(12, xla); }
-  }
-
-  private boolean jj_2_14(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_14(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(13, xla); }
-  }
-
-  private boolean jj_2_15(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_15(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(14, xla); }
-  }
-
-  private boolean jj_2_16(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_16(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(15, xla); }
+  private boolean jj_3R_66() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
   }
 
-  private boolean jj_2_17(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_17(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(16, xla); }
+  private boolean jj_3_2() {
+    if (jj_3R_16()) return true;
+    return false;
   }
 
-  private boolean jj_3R_56() {
-    if (jj_3R_65()) return true;
+  private boolean jj_3R_15() {
+    if (jj_3R_24()) return true;
+    if (jj_3R_25()) return true;
     return false;
   }
 
-  private boolean jj_3R_70() {
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_71()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_42() {
+    if (jj_3R_53()) return true;
     return false;
   }
 
-  private boolean jj_3R_22() {
-    if (jj_scan_token(NEW)) return true;
+  private boolean jj_3R_32() {
     if (jj_scan_token(BOOLEAN)) return true;
     if (jj_scan_token(LSQPAREN)) return true;
-    if (jj_3R_50()) return true;
     if (jj_scan_token(RSQPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(PLUS)) return true;
+  private boolean jj_3R_41() {
+    if (jj_3R_52()) return true;
     return false;
   }
 
-  private boolean jj_3R_55() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_40() {
+    if (jj_3R_51()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(LT)) return true;
+  private boolean jj_3R_65() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3_1() {
-    if (jj_3R_13()) return true;
+  private boolean jj_3R_22() {
+    if (jj_scan_token(NEW)) return true;
+    if (jj_scan_token(BOOLEAN)) return true;
+    if (jj_scan_token(LSQPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_54() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_39() {
+    if (jj_3R_50()) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_17()) return true;
+  private boolean jj_3R_49() {
+    if (jj_3R_54()) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_18()) return true;
-    if (jj_scan_token(AND)) return true;
+  private boolean jj_3R_38() {
+    if (jj_3R_49()) return true;
     return false;
   }
 
-  private boolean jj_3R_53() {
-    if (jj_3R_62()) return true;
+  private boolean jj_3R_27() {
+    if (jj_3R_33()) return true;
     return false;
   }
 
-  private boolean jj_3_5() {
-    if (jj_3R_16()) return true;
+  private boolean jj_3R_37() {
+    if (jj_3R_48()) return true;
     return false;
   }
 
-  private boolean jj_3R_69() {
-    if (jj_3R_50()) return true;
+  private boolean jj_3R_63() {
     if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_52() {
-    if (jj_3R_61()) return true;
+  private boolean jj_3R_26() {
+    if (jj_3R_32()) return true;
     return false;
   }
 
-  private boolean jj_3R_51() {
-    if (jj_3R_60()) return true;
+  private boolean jj_3_6() {
+    if (jj_3R_19()) return true;
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_23()) return true;
+  private boolean jj_3_1() {
+    if (jj_3R_15()) return true;
     return false;
   }
 
-  private boolean jj_3R_50() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_51()) {
-    jj_scanpos = xsp;
-    if (jj_3R_52()) {
-    jj_scanpos = xsp;
-    if (jj_3R_53()) {
-    jj_scanpos = xsp;
-    if (jj_3R_54()) {
-    jj_scanpos = xsp;
-    if (jj_3R_55()) {
-    jj_scanpos = xsp;
-    if (jj_3R_56()) {
-    jj_scanpos = xsp;
-    if (jj_3R_57()) {
-    jj_scanpos = xsp;
-    if (jj_3R_58()) {
-    jj_scanpos = xsp;
-    if (jj_3R_59()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_36() {
+    if (jj_3R_47()) return true;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_22()) return true;
+  private boolean jj_3R_62() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_68() {
-    if (jj_3R_69()) return true;
+  private boolean jj_3R_70() {
+    if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_21() {
+  private boolean jj_3R_17() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_16()) {
+    if (jj_3R_26()) {
     jj_scanpos = xsp;
-    if (jj_3_17()) return true;
+    if (jj_3R_27()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_13()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_67() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_20()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_68()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_49() {
-    if (jj_scan_token(INTEGER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_45() {
-    if (jj_scan_token(THIS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_48() {
-    if (jj_scan_token(BOOLEAN)) return true;
+  private boolean jj_3_5() {
+    if (jj_3R_18()) return true;
     return false;
   }
 
   private boolean jj_3R_20() {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_66() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(LENGTH)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_40() {
-    if (jj_scan_token(INTEGER)) return true;
-    if (jj_scan_token(LSQPAREN)) return true;
-    if (jj_scan_token(RSQPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_44() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_65() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(LSQPAREN)) return true;
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(RSQPAREN)) return true;
+    if (jj_3R_28()) return true;
     return false;
   }
 
-  private boolean jj_3R_13() {
-    if (jj_3R_24()) return true;
-    if (jj_3R_20()) return true;
+  private boolean jj_3R_35() {
+    if (jj_3R_46()) return true;
     return false;
   }
 
-  private boolean jj_3R_43() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3_8() {
+    if (jj_3R_21()) return true;
     return false;
   }
 
-  private boolean jj_3R_39() {
-    if (jj_scan_token(BOOLEAN)) return true;
-    if (jj_scan_token(LSQPAREN)) return true;
-    if (jj_scan_token(RSQPAREN)) return true;
+  private boolean jj_3R_48() {
+    if (jj_3R_54()) return true;
     return false;
   }
 
-  private boolean jj_3R_42() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3_10() {
+    if (jj_3R_23()) return true;
     return false;
   }
 
-  private boolean jj_3R_64() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(48)) return true;
-    if (jj_3R_19()) return true;
+  private boolean jj_3R_61() {
+    if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_26() {
-    if (jj_3R_40()) return true;
+  private boolean jj_3R_34() {
+    if (jj_3R_45()) return true;
     return false;
   }
 
-  private boolean jj_3R_25() {
-    if (jj_3R_39()) return true;
+  private boolean jj_3R_60() {
+    if (jj_3R_25()) return true;
     return false;
   }
 
-  private boolean jj_3R_35() {
-    if (jj_3R_47()) return true;
+  private boolean jj_3_9() {
+    if (jj_3R_22()) return true;
     return false;
   }
 
-  private boolean jj_3R_15() {
+  private boolean jj_3R_28() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_25()) {
+    jj_lookingAhead = true;
+    jj_semLA = expressionKind() == AND_EXPRESSION;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_34()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = expressionKind() == COMPARE_EXPRESSION;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_35()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = expressionKind() == PLUS_EXPRESSION;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_36()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = expressionKind() == MINUS_EXPRESSION;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_37()) {
     jj_scanpos = xsp;
-    if (jj_3R_26()) return true;
+    jj_lookingAhead = true;
+    jj_semLA = expressionKind() == TIMES_EXPRESSION;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_38()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = expressionKind() == ARRAY_LOOKUP;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_39()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = expressionKind() == ARRAY_LENGTH;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_40()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = expressionKind() == MESSAGE_SEND;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_41()) {
+    jj_scanpos = xsp;
+    if (jj_3R_42()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_34() {
-    if (jj_3R_46()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_47() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_50()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_63() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_19()) return true;
+  private boolean jj_3R_59() {
+    if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_21()) return true;
+  private boolean jj_3R_31() {
+    if (jj_3R_25()) return true;
     return false;
   }
 
-  private boolean jj_3R_33() {
-    if (jj_3R_45()) return true;
+  private boolean jj_3_7() {
+    if (jj_3R_20()) return true;
     return false;
   }
 
-  private boolean jj_3R_32() {
-    if (jj_3R_20()) return true;
+  private boolean jj_3R_21() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_9()) {
+    jj_scanpos = xsp;
+    if (jj_3_10()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_38() {
-    if (jj_3R_20()) return true;
+  private boolean jj_3R_58() {
+    if (jj_3R_66()) return true;
     return false;
   }
 
-  private boolean jj_3R_31() {
+  private boolean jj_3R_30() {
     if (jj_3R_44()) return true;
     return false;
   }
 
-  private boolean jj_3R_37() {
-    if (jj_3R_49()) return true;
+  private boolean jj_3R_64() {
+    if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_17() {
-    if (jj_3R_20()) return true;
+  private boolean jj_3R_19() {
+    if (jj_3R_25()) return true;
     if (jj_scan_token(LSQPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_30() {
-    if (jj_3R_43()) return true;
+  private boolean jj_3R_57() {
+    if (jj_3R_65()) return true;
     return false;
   }
 
-  private boolean jj_3R_36() {
-    if (jj_3R_48()) return true;
+  private boolean jj_3_3() {
+    if (jj_3R_15()) return true;
     return false;
   }
 
   private boolean jj_3R_29() {
-    if (jj_3R_42()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_41() {
-    if (jj_scan_token(NOT)) return true;
-    if (jj_3R_18()) return true;
+    if (jj_3R_43()) return true;
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_15()) return true;
+  private boolean jj_3R_52() {
+    if (jj_3R_54()) return true;
     return false;
   }
 
-  private boolean jj_3R_62() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(PLUS)) return true;
-    if (jj_3R_19()) return true;
+  private boolean jj_3R_47() {
+    if (jj_3R_54()) return true;
     return false;
   }
 
-  private boolean jj_3R_19() {
+  private boolean jj_3R_54() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_29()) {
+    if (jj_3R_57()) {
     jj_scanpos = xsp;
-    if (jj_3R_30()) {
+    if (jj_3R_58()) {
     jj_scanpos = xsp;
-    if (jj_3R_31()) {
+    if (jj_3R_59()) {
     jj_scanpos = xsp;
-    if (jj_3R_32()) {
+    if (jj_3R_60()) {
     jj_scanpos = xsp;
-    if (jj_3R_33()) {
+    if (jj_3R_61()) {
     jj_scanpos = xsp;
-    if (jj_3_15()) {
+    if (jj_3_8()) {
     jj_scanpos = xsp;
-    if (jj_3R_34()) {
+    if (jj_3R_62()) {
     jj_scanpos = xsp;
-    if (jj_3R_35()) return true;
+    if (jj_3R_63()) return true;
     }
     }
     }
@@ -1686,147 +1960,121 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     return false;
   }
 
+  private boolean jj_3_4() {
+    if (jj_3R_17()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_44() {
+    if (jj_scan_token(INTEGER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_68() {
+    if (jj_scan_token(THIS)) return true;
+    return false;
+  }
+
   private boolean jj_3R_24() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_4()) {
     jj_scanpos = xsp;
-    if (jj_3R_36()) {
+    if (jj_3R_29()) {
     jj_scanpos = xsp;
-    if (jj_3R_37()) {
+    if (jj_3R_30()) {
     jj_scanpos = xsp;
-    if (jj_3R_38()) return true;
+    if (jj_3R_31()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_46() {
+  private boolean jj_3R_69() {
     if (jj_scan_token(NEW)) return true;
-    if (jj_3R_20()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_14() {
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_20()) return true;
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_46() {
+    if (jj_3R_54()) return true;
     return false;
   }
 
-  private boolean jj_3R_61() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(LT)) return true;
-    if (jj_3R_19()) return true;
+  private boolean jj_3R_43() {
+    if (jj_scan_token(BOOLEAN)) return true;
     return false;
   }
 
-  private boolean jj_3R_16() {
-    if (jj_3R_20()) return true;
-    if (jj_scan_token(ASSIGN)) return true;
+  private boolean jj_3R_25() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_28() {
-    if (jj_3R_19()) return true;
+  private boolean jj_3R_56() {
+    if (jj_3R_54()) return true;
     return false;
   }
 
-  private boolean jj_3R_27() {
-    if (jj_3R_41()) return true;
+  private boolean jj_3R_16() {
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_3R_25()) return true;
+    if (jj_scan_token(LBRACE)) return true;
     return false;
   }
 
   private boolean jj_3R_18() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_27()) {
-    jj_scanpos = xsp;
-    if (jj_3R_28()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_60() {
-    if (jj_3R_18()) return true;
-    if (jj_scan_token(AND)) return true;
-    if (jj_3R_18()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_23() {
-    if (jj_scan_token(NEW)) return true;
-    if (jj_scan_token(INTEGER)) return true;
-    if (jj_scan_token(LSQPAREN)) return true;
-    if (jj_3R_50()) return true;
-    if (jj_scan_token(RSQPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3_2() {
-    if (jj_3R_14()) return true;
+    if (jj_3R_25()) return true;
+    if (jj_scan_token(ASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_20()) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  private boolean jj_3R_55() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_72() {
-    if (jj_scan_token(47)) return true;
-    if (jj_3R_50()) return true;
+  private boolean jj_3R_51() {
+    if (jj_3R_54()) return true;
     return false;
   }
 
-  private boolean jj_3_13() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(LENGTH)) return true;
+  private boolean jj_3R_53() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_55()) {
+    jj_scanpos = xsp;
+    if (jj_3R_56()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_59() {
-    if (jj_3R_18()) return true;
+  private boolean jj_3R_67() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_19()) return true;
+  private boolean jj_3R_33() {
+    if (jj_scan_token(INTEGER)) return true;
     if (jj_scan_token(LSQPAREN)) return true;
+    if (jj_scan_token(RSQPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_58() {
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
-  private boolean jj_3_11() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(48)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_57() {
-    if (jj_3R_66()) return true;
+  private boolean jj_3R_45() {
+    if (jj_3R_53()) return true;
     return false;
   }
 
-  private boolean jj_3R_71() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_23() {
+    if (jj_scan_token(NEW)) return true;
+    if (jj_scan_token(INTEGER)) return true;
+    if (jj_scan_token(LSQPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_10() {
-    if (jj_3R_19()) return true;
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_50() {
+    if (jj_3R_54()) return true;
     return false;
   }
 
@@ -1840,8 +2088,11 @@ public class MiniJavaParser implements MiniJavaParserConstants {
   private int jj_ntk;
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
+  /** Whether we are looking ahead. */
+  private boolean jj_lookingAhead = false;
+  private boolean jj_semLA;
   private int jj_gen;
-  final private int[] jj_la1 = new int[21];
+  final private int[] jj_la1 = new int[26];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static {
@@ -1849,12 +2100,12 @@ public class MiniJavaParser implements MiniJavaParserConstants {
       jj_la1_init_1();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x1000000,0x60002000,0x1000000,0x80800000,0x0,0x80800000,0x0,0x80800000,0x60002000,0x0,0x80800000,0x80800000,0x2000,0x60000000,0x60002000,0x10400200,0x10400200,0x0,0x10400200,0x10000000,0x200,};
+      jj_la1_0 = new int[] {0x2000000,0x2000001,0x2000001,0x10000000,0x1000000,0x0,0x1000000,0xc0002000,0x2000000,0x1000000,0x0,0x1000000,0x0,0x1000000,0xc0002000,0x0,0x1000000,0x1000000,0x2000,0xc0000000,0xc0002000,0x20800200,0x0,0x20800200,0x20000000,0x200,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x0,0x1200,0x0,0x1000,0x8,0x1000,0x8,0x1000,0x1200,0x8000,0x1000,0x0,0x0,0x200,0x1200,0x1984,0x1984,0x8000,0x1984,0x1980,0x4,};
+      jj_la1_1 = new int[] {0x0,0x0,0x0,0x0,0x2001,0x10,0x2001,0x2400,0x0,0x2001,0x10,0x2001,0x10,0x2001,0x2400,0x10000,0x2001,0x1,0x0,0x400,0x2400,0x3308,0x10000,0x3308,0x3300,0x8,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[17];
+  final private JJCalls[] jj_2_rtns = new JJCalls[10];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -1869,7 +2120,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 21; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 26; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -1884,7 +2135,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 21; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 26; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -1895,7 +2146,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 21; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 26; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -1906,7 +2157,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 21; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 26; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -1916,7 +2167,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 21; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 26; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -1926,7 +2177,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 21; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 26; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -1989,7 +2240,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
 
 /** Get the specific Token. */
   final public Token getToken(int index) {
-    Token t = token;
+    Token t = jj_lookingAhead ? jj_scanpos : token;
     for (int i = 0; i < index; i++) {
       if (t.next != null) t = t.next;
       else t = t.next = token_source.getNextToken();
@@ -2043,7 +2294,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 21; i++) {
+    for (int i = 0; i < 26; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -2082,7 +2333,7 @@ public class MiniJavaParser implements MiniJavaParserConstants {
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 17; i++) {
+    for (int i = 0; i < 10; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -2099,13 +2350,6 @@ public class MiniJavaParser implements MiniJavaParserConstants {
             case 7: jj_3_8(); break;
             case 8: jj_3_9(); break;
             case 9: jj_3_10(); break;
-            case 10: jj_3_11(); break;
-            case 11: jj_3_12(); break;
-            case 12: jj_3_13(); break;
-            case 13: jj_3_14(); break;
-            case 14: jj_3_15(); break;
-            case 15: jj_3_16(); break;
-            case 16: jj_3_17(); break;
           }
         }
         p = p.next;
@@ -39,57 +39,59 @@ public interface MiniJavaParserConstants {
   /** RegularExpression Id. */
   int MINUS = 20;
   /** RegularExpression Id. */
-  int AND = 21;
+  int TIMES = 21;
   /** RegularExpression Id. */
-  int NOT = 22;
+  int AND = 22;
   /** RegularExpression Id. */
-  int BOOLEAN = 23;
+  int NOT = 23;
   /** RegularExpression Id. */
-  int CLASS = 24;
+  int BOOLEAN = 24;
   /** RegularExpression Id. */
-  int INTERFACE = 25;
+  int CLASS = 25;
   /** RegularExpression Id. */
-  int ELSE = 26;
+  int INTERFACE = 26;
   /** RegularExpression Id. */
-  int EXTENDS = 27;
+  int ELSE = 27;
   /** RegularExpression Id. */
-  int FALSE = 28;
+  int EXTENDS = 28;
   /** RegularExpression Id. */
-  int IF = 29;
+  int FALSE = 29;
   /** RegularExpression Id. */
-  int WHILE = 30;
+  int IF = 30;
   /** RegularExpression Id. */
-  int INTEGER = 31;
+  int WHILE = 31;
   /** RegularExpression Id. */
-  int LENGTH = 32;
+  int INTEGER = 32;
   /** RegularExpression Id. */
-  int MAIN = 33;
+  int LENGTH = 33;
   /** RegularExpression Id. */
-  int NEW = 34;
+  int MAIN = 34;
   /** RegularExpression Id. */
-  int PUBLIC = 35;
+  int NEW = 35;
   /** RegularExpression Id. */
-  int RETURN = 36;
+  int PUBLIC = 36;
   /** RegularExpression Id. */
-  int STATIC = 37;
+  int RETURN = 37;
   /** RegularExpression Id. */
-  int STRING = 38;
+  int STATIC = 38;
   /** RegularExpression Id. */
-  int THIS = 39;
+  int STRING = 39;
   /** RegularExpression Id. */
-  int TRUE = 40;
+  int THIS = 40;
   /** RegularExpression Id. */
-  int PRINT = 41;
+  int TRUE = 41;
   /** RegularExpression Id. */
-  int VOID = 42;
+  int PRINT = 42;
   /** RegularExpression Id. */
-  int INTEGER_LITERAL = 43;
+  int VOID = 43;
   /** RegularExpression Id. */
-  int IDENTIFIER = 44;
+  int INTEGER_LITERAL = 44;
   /** RegularExpression Id. */
-  int LETTER = 45;
+  int IDENTIFIER = 45;
   /** RegularExpression Id. */
-  int DIGIT = 46;
+  int LETTER = 46;
+  /** RegularExpression Id. */
+  int DIGIT = 47;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -117,6 +119,7 @@ public interface MiniJavaParserConstants {
     "\"<\"",
     "\"+\"",
     "\"-\"",
+    "\"*\"",
     "\"&&\"",
     "\"!\"",
     "\"boolean\"",
@@ -144,7 +147,6 @@ public interface MiniJavaParserConstants {
     "<LETTER>",
     "<DIGIT>",
     "\",\"",
-    "\"*\"",
   };
 
 }
@@ -0,0 +1,923 @@
+import syntaxtree.*;
+import visitor.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Second pass of the checker: checks the method bodies against the symbol
+ * table and prints the offsets of every class. Every expression is checked
+ * from the types its parts resolve to, so some programs the first version of
+ * the checker accepted are rejected now:
+ * - the condition of an if or a while has to be boolean;
+ * - the operands of && and ! have to be boolean;
+ * - the operands of <, + and - have to be int, like those of *;
+ * - the index of an array and the size of a new array have to be int;
+ * - .length is only taken of an array, and methods are only called on objects;
+ * - assignments, returns and prints are checked for every expression, not only for names.
+ */
+class MyVisitor extends GJDepthFirst<SemType, Void>{
+
+    // stores every class of the program with its fields and methods
+    SymbolTable symbols;
+    // first pass, fills symbols before any method body is checked
+    DeclarationVisitor declarations;
+    // stores current scope
+    ClassInfo current_class;
+    // stores current function, null if we are not inside a function
+    MethodInfo current_method;
+    // type id of every local variable of the current function, keyed on the id of its name
+    IntIntMap locals;
+    // the offsets of the program, written out by Report after the whole file has been checked
+    OffsetTable offsets;
+    // workers that check the method bodies, null to check them one after another
+    ForkJoinPool pool;
+    // whether the offsets come from the packed layout
+    boolean pack;
+    // the method every (receiver class, method name) pair called so far resolves to, position + 1 in the table or 0 for none
+    LongIntMap calls;
+    // errors of every method body being checked by the pool
+    Map<MethodDeclaration, Future<Diagnostics>> bodies;
+    // every semantic error found so far, in the order of the program
+    Diagnostics diagnostics;
+
+    // a visitor over the given table, the workers of the pool check the method bodies with one over a table that has already been filled
+    MyVisitor(SymbolTable symbols)
+    {
+        this.symbols = symbols;
+        offsets = new OffsetTable();
+        diagnostics = new Diagnostics();
+        declarations = new DeclarationVisitor(symbols, diagnostics);
+        locals = new IntIntMap();
+        calls = new LongIntMap();
+    }
+
+    /**
+     * f0 -> MainClass()
+     * f1 -> ( TypeDeclaration() )*
+     * f2 -> <EOF>
+     */
+    @Override
+    public SemType visit(Goal n, Void argu) throws Exception {
+
+        // every declaration is collected and the hierarchy checked first, then the table is only read while the bodies are checked
+        // the bodies of a program whose hierarchy has errors are not checked, the walks up its parents might never end
+        n.accept(declarations, null);
+        if(!declarations.finish())
+        {
+            print_classes();
+            return null;
+        }
+
+        // the bodies are checked by the pool while the offsets are printed here, in the same order as before
+        if(pool != null) bodies = start_bodies(n);
+
+        try{
+            n.f0.accept(this, null);
+            n.f1.accept(this, null);
+        }
+        finally{
+            // after an exception the rest of the bodies are not needed
+            if(bodies != null) for(Future<Diagnostics> body: bodies.values()) body.cancel(false);
+            bodies = null;
+        }
+
+        return null;
+    }
+
+    // first pass over a file read one class at a time, adds the declarations of a class to the table
+    void declare(Node n) throws Exception {
+
+        n.accept(declarations, null);
+    }
+
+    // ends the first pass, the table is complete and checked and only read from now on
+    // returns false if the hierarchy has errors, then there is no second pass and the offsets that are known are printed here
+    boolean declared() throws Exception {
+
+        if(declarations.finish()) return true;
+
+        print_classes();
+        return false;
+    }
+
+    // second pass over a file read one class at a time, checks a class and prints its offsets
+    void check(Node n) throws Exception {
+
+        n.accept(this, null);
+    }
+
+    // starts checking every method body of the program on the pool, with one visitor for every worker
+    private Map<MethodDeclaration, Future<Diagnostics>> start_bodies(Goal n)
+    {
+        Map<MethodDeclaration, Future<Diagnostics>> started = new IdentityHashMap<MethodDeclaration, Future<Diagnostics>>();
+        // a worker checks one body at a time, and its visitor keeps the calls it has resolved for the next bodies
+        // the visitors go with the bodies of this program, a ThreadLocal would keep them and the table in the workers
+        Map<Thread, MyVisitor> checkers = new ConcurrentHashMap<Thread, MyVisitor>();
+
+        for(Node node: n.f1.nodes)
+        {
+            Node declaration = ((TypeDeclaration) node).f0.choice;
+            Identifier name;
+            NodeListOptional methods;
+            if(declaration instanceof ClassDeclaration)
+            {
+                name = ((ClassDeclaration) declaration).f1;
+                methods = ((ClassDeclaration) declaration).f4;
+            }
+            else
+            {
+                name = ((ClassExtendsDeclaration) declaration).f1;
+                methods = ((ClassExtendsDeclaration) declaration).f6;
+            }
+
+            ClassInfo owner = symbols.getClass(symbol(name));
+            if(!declared_at(owner.getLine(), owner.getColumn(), name)) continue;
+
+            for(Node method: methods.nodes)
+            {
+                MethodDeclaration body = (MethodDeclaration) method;
+                MethodInfo info = owner.getMethod(symbol(body.f2));
+                if(!declared_at(info.getLine(), info.getColumn(), body.f2)) continue;
+                started.put(body, pool.submit(() -> {
+                    MyVisitor checker = checkers.computeIfAbsent(Thread.currentThread(), worker -> new MyVisitor(symbols));
+                    // every body has errors of its own, they are added in the order of the program
+                    checker.diagnostics = new Diagnostics();
+                    checker.check_body(owner, body);
+                    return checker.diagnostics;
+                }));
+            }
+        }
+
+        return started;
+    }
+
+    /**
+     * f0 -> "class"
+     * f1 -> Identifier()
+     * f2 -> "{"
+     * f3 -> "public"
+     * f4 -> "static"
+     * f5 -> "void"
+     * f6 -> "main"
+     * f7 -> "("
+     * f8 -> "String"
+     * f9 -> "["
+     * f10 -> "]"
+     * f11 -> Identifier()
+     * f12 -> ")"
+     * f13 -> "{"
+     * f14 -> ( VarDeclaration() )*
+     * f15 -> ( Statement() )*
+     * f16 -> "}"
+     * f17 -> "}"
+     */
+    @Override
+    public SemType visit(MainClass n, Void argu) throws Exception {
+
+        current_class = symbols.getClass(symbol(n.f1));
+
+        // we are inside the main function, it cannot be called so it is not one of the class methods
+        current_method = new MethodInfo(current_class, -1, "main", null);
+        locals.clear();
+
+        n.f14.accept(this, null);
+        n.f15.accept(this, null);
+
+        current_method = null;
+
+        offsets.endClass();
+
+        return null;
+    }
+
+    /**
+     * f0 -> "class"
+     * f1 -> Identifier()
+     * f2 -> "{"
+     * f3 -> ( VarDeclaration() )*
+     * f4 -> ( MethodDeclaration() )*
+     * f5 -> "}"
+     */
+    @Override
+    public SemType visit(ClassDeclaration n, Void argu) throws Exception {
+
+        // the members of a class that is declared twice are not in the table, the second declaration is not checked
+        current_class = symbols.getClass(symbol(n.f1));
+        if(!declared_at(current_class.getLine(), current_class.getColumn(), n.f1)) return null;
+
+        n.f3.accept(this, null);
+        n.f4.accept(this, null);
+
+        print_class(current_class);
+
+        return null;
+    }
+
+    /**
+     * f0 -> "class"
+     * f1 -> Identifier()
+     * f2 -> "extends"
+     * f3 -> Identifier()
+     * f4 -> "{"
+     * f5 -> ( VarDeclaration() )*
+     * f6 -> ( MethodDeclaration() )*
+     * f7 -> "}"
+     */
+    @Override
+    public SemType visit(ClassExtendsDeclaration n, Void argu) throws Exception {
+
+        // the members of a class that is declared twice are not in the table, the second declaration is not checked
+        current_class = symbols.getClass(symbol(n.f1));
+        if(!declared_at(current_class.getLine(), current_class.getColumn(), n.f1)) return null;
+
+        n.f5.accept(this, null);
+        n.f6.accept(this, null);
+
+        print_class(current_class);
+
+        return null;
+    }
+
+    /**
+     * f0 -> Type()
+     * f1 -> Identifier()
+     */
+    @Override
+    public SemType visit(VarDeclaration n, Void argu) throws Exception{
+        SemType type = n.f0.accept(this, null);
+
+        // fields have been added to the class by the declaration pass, their offsets are printed with the class
+        if(current_method != null)
+        {
+            // checking if the variable has been declared before in this function or not
+            // the declaration pass has given every local variable an id, also in a tree that was not lexed with the names of the table
+            int id = symbol(n.f1);
+            if(current_method.lookupParameter(id) != null || !locals.add(id, type.getId())) diagnostics.error(n.f1.f0, "{} has already been declared", n.f1.f0);
+        }
+
+        return type;
+    }
+
+    /**
+     * f0 -> "public"
+     * f1 -> Type()
+     * f2 -> Identifier()
+     * f3 -> "("
+     * f4 -> ( FormalParameterList() )?
+     * f5 -> ")"
+     * f6 -> "{"
+     * f7 -> ( VarDeclaration() )*
+     * f8 -> ( Statement() )*
+     * f9 -> "return"
+     * f10 -> Expression()
+     * f11 -> ";"
+     * f12 -> "}"
+     */
+    @Override
+    public SemType visit(MethodDeclaration n, Void argu) throws Exception {
+
+        SemType type = n.f1.accept(this, null);
+
+        // the parameters of a method that is declared twice are not in the table, the second body is not checked
+        MethodInfo info = current_class.getMethod(symbol(n.f2));
+        if(!declared_at(info.getLine(), info.getColumn(), n.f2)) return type;
+
+        if(bodies == null)
+        {
+            check_body(current_class, n);
+        }
+        else
+        {
+            // the body has been checked by the pool, its errors are added here so they keep the order of the program
+            try{
+                diagnostics.addAll(bodies.get(n).get());
+            }
+            catch(ExecutionException ex){
+                if(ex.getCause() instanceof Exception) throw (Exception) ex.getCause();
+                throw (Error) ex.getCause();
+            }
+        }
+
+        return type;
+    }
+
+    // checks the variables, statements and return value of a method of the given class
+    void check_body(ClassInfo owner, MethodDeclaration n) throws Exception {
+
+        // the function and its parameters have been added to the class by the declaration pass
+        current_class = owner;
+        current_method = owner.getMethod(symbol(n.f2));
+        locals.clear();
+
+        n.f7.accept(this, null);
+        n.f8.accept(this, null);
+
+        SemType returned = n.f10.accept(this, null);
+
+        // checking if the thing the function returns the same type of thing as it is
+        if(!is_assignable(returned, current_method.getReturnType())) diagnostics.error(n.f9, "wrong return type");
+        
+        // we are not inside a function anymore
+        current_method = null;
+    }
+
+    /**
+     * f0 -> ArrayType()
+     *       | BooleanType()
+     *       | IntegerType()
+     *       | Identifier()
+     */
+    @Override
+    public SemType visit(Type n, Void argu) throws Exception {
+        
+        // a class name as a type is not a variable, so it is resolved here instead of visit(Identifier)
+        if(n.f0.choice instanceof Identifier) return symbols.classType(((Identifier) n.f0.choice).f0.toString());
+
+        return n.f0.accept(this, null);
+    }
+
+    @Override
+    public SemType visit(ArrayType n, Void argu) throws Exception{
+        
+        return n.f0.accept(this, null);
+        
+    }
+
+    @Override
+    public SemType visit(IntegerArrayType n, Void argu) throws Exception{
+        return SemType.INT_ARRAY;
+    }
+
+    @Override
+    public SemType visit(BooleanArrayType n, Void argu) throws Exception{
+        return SemType.BOOLEAN_ARRAY;
+    }
+
+    @Override
+    public SemType visit(BooleanType n, Void argu) throws Exception{
+        return SemType.BOOLEAN;
+    }
+
+    @Override
+    public SemType visit(IntegerType n, Void argu) throws Exception{
+        return SemType.INT;
+    }
+
+    @Override
+    public SemType visit(Statement n, Void argu) throws Exception{
+
+        return n.f0.accept(this, null);
+    }
+
+    /**
+     * f1 -> "{"
+     * f2 -> ( Statement() )*
+     * f3 -> "}"
+     */
+    @Override
+    public SemType visit(Block n, Void argu) throws Exception{
+
+        return n.f1.accept(this, null);
+    }
+
+    /**
+     * f0 -> Identifier()
+     * f1 -> "="
+     * f2 -> Expression()
+     * f3 -> ";"
+     */
+    @Override
+    public SemType visit(AssignmentStatement n, Void argu) throws Exception{
+        // the identifier is looked up in current or parent scopes
+        SemType type_a = n.f0.accept(this, null);
+        SemType type_b = n.f2.accept(this, null);
+       
+        // Checking if both ends of the assignment have compatible types
+        if(!is_assignable(type_b, type_a)) diagnostics.error(n.f0.f0, "wrong assignment type {} and {}", type_a, type_b);
+
+        return null; 
+    }
+
+
+    /**
+     * f0 -> Identifier()
+     * f1 -> "["
+     * f2 -> Expression()
+     * f3 -> "]"
+     * f4 -> "="
+     * f5 -> Expression()
+     * f6 -> ";"
+     */
+    @Override
+    public SemType visit(ArrayAssignmentStatement n, Void argu) throws Exception{
+        String to_be_assigned = n.f0.f0.toString();
+        SemType array_type = n.f0.accept(this, null);
+
+        // Checking if the variable to be assigned is an array variable or not, an undeclared one has been reported already
+        if(array_type != null && !array_type.isArray())
+        {
+            diagnostics.error(n.f0.f0, "wrong assignment type {}", to_be_assigned);
+            array_type = null;
+        }
+
+        // Checking if the index is integer or not
+        if(!is_type(n.f2.accept(this, null), SemType.INT)) diagnostics.error(n.f1, "array index is not integer"); 
+
+        // Checking if the assigned value has the type of the elements of the array
+        SemType assignment = n.f5.accept(this, null);
+        if(array_type != null && !is_assignable(assignment, array_type.elementType())) diagnostics.error(n.f4, "wrong assignment type {} and {}", array_type.elementType(), assignment);
+
+        return null; 
+    }
+
+    /**
+     * f0 -> "If"
+     * f1 -> "("
+     * f2 -> Expression()
+     * f3 -> ")"
+     * f4 -> Statement()
+     * f5 -> "else"
+     * f6 -> "Statement()"
+     */
+    @Override
+    public SemType visit(IfStatement n, Void argu) throws Exception{
+
+        if(!is_type(n.f2.accept(this, null), SemType.BOOLEAN)) diagnostics.error(n.f0, "if condition is not boolean");
+        n.f4.accept(this, null);
+        n.f6.accept(this, null);
+
+        return null; 
+    }
+
+    /**
+     * f0 -> "While"
+     * f1 -> "("
+     * f2 -> Expression()
+     * f3 -> ")"
+     * f4 -> Statement()
+     */
+    @Override
+    public SemType visit(WhileStatement n, Void argu)  throws Exception{
+        if(!is_type(n.f2.accept(this, null), SemType.BOOLEAN)) diagnostics.error(n.f0, "while condition is not boolean");
+        n.f4.accept(this, null);
+
+        return null; 
+    }
+
+    /**
+     * f0 -> "System.out.println"
+     * f1 -> "("
+     * f2 -> Expression()
+     * f3 -> ")"
+     * f4 -> ";"
+     */
+    @Override
+    public SemType visit(PrintStatement n, Void argu)  throws Exception{
+
+        SemType printed = n.f2.accept(this, null);
+        
+        // checking if the printed expression is integer
+        if(!is_type(printed, SemType.INT)) diagnostics.error(n.f0, "{} is not integer", printed);
+        
+        return null;
+    }
+
+    @Override
+    public SemType visit(Expression n, Void argu) throws Exception{
+
+        return n.f0.accept(this, null);
+    }
+
+    /**
+     * f0 -> Clause()
+     * f1 -> "&&"
+     * f2 -> Clause()
+     */
+    @Override
+    public SemType visit(AndExpression n, Void argu) throws Exception{
+
+        SemType and1 = n.f0.accept(this, null);
+        SemType and2 = n.f2.accept(this, null);
+
+        // Checking if both terms are booleans
+        if(!is_type(and1, SemType.BOOLEAN) || !is_type(and2, SemType.BOOLEAN)) diagnostics.error(n.f1, "wrong logical and");
+        return SemType.BOOLEAN;
+    }
+
+    /**
+     * f0 -> PrimaryExpression()
+     * f1 -> "<"
+     * f2 -> PrimaryExpression()
+     */
+    @Override
+    public SemType visit(CompareExpression n, Void argu) throws Exception{
+
+        SemType small = n.f0.accept(this, null);
+        SemType big = n.f2.accept(this, null);
+
+        // Checking if both terms are integers
+        if(!is_type(small, SemType.INT) || !is_type(big, SemType.INT)) diagnostics.error(n.f1, "wrong comparison");
+        return SemType.BOOLEAN;
+    }
+
+    /**
+     * f0 -> PrimaryExpression()
+     * f1 -> "+"
+     * f2 -> PrimaryExpression()
+     */
+    @Override
+    public SemType visit(PlusExpression n, Void argu) throws Exception{
+
+        SemType plus1 = n.f0.accept(this, null);
+        SemType plus2 = n.f2.accept(this, null);
+
+        // Checking if all addition terms are integers
+        if(!is_type(plus1, SemType.INT) || !is_type(plus2, SemType.INT)) diagnostics.error(n.f1, "wrong addition");
+        return SemType.INT;
+    }
+
+    /**
+     * f0 -> PrimaryExpression()
+     * f1 -> "-"
+     * f2 -> PrimaryExpression()
+     */
+    @Override
+    public SemType visit(MinusExpression n, Void argu) throws Exception{
+
+        SemType minus1 = n.f0.accept(this, null);
+        SemType minus2 = n.f2.accept(this, null);
+
+        // Checking if all subtraction terms are integers
+        if(!is_type(minus1, SemType.INT) || !is_type(minus2, SemType.INT)) diagnostics.error(n.f1, "wrong subtraction");
+        return SemType.INT;
+    }
+
+    /**
+     * f0 -> PrimaryExpression()
+     * f1 -> "*"
+     * f2 -> PrimaryExpression()
+     */
+    @Override
+    public SemType visit(TimesExpression n, Void argu) throws Exception{
+
+        SemType times1 = n.f0.accept(this, null);
+        SemType times2 = n.f2.accept(this, null);
+
+        // Checking if all multiplication terms are integers
+        if(!is_type(times1, SemType.INT) || !is_type(times2, SemType.INT)) diagnostics.error(n.f1, "wrong multiplication");
+        return SemType.INT;
+    }
+
+    /**
+     * f0 -> PrimaryExpression()
+     * f1 -> "["
+     * f2 -> PrimaryExpression()
+     * f3 -> "]"
+     */
+    @Override
+    public SemType visit(ArrayLookup n, Void argu) throws Exception{
+
+        SemType array_type = n.f0.accept(this, null);
+        // checking if the expression is an array or not, an expression of unknown type has been reported already
+        if(array_type != null && !array_type.isArray())
+        {
+            diagnostics.error(n.f1, "wrong type {}", array_type);
+            array_type = null;
+        }
+        if(!is_type(n.f2.accept(this, null), SemType.INT)) diagnostics.error(n.f1, "array index is not integer");
+
+        // if array is int[] the lookup is int, if array is boolean[] the lookup is boolean
+        return array_type == null ? null : array_type.elementType();
+    }
+
+    /**
+     * f0 -> PrimaryExpression()
+     * f1 -> "."
+     * f2 -> "length"
+     */
+    @Override
+    public SemType visit(ArrayLength n, Void argu) throws Exception{
+
+        SemType array_type = n.f0.accept(this, null);
+        if(array_type != null && !array_type.isArray()) diagnostics.error(n.f1, "length of {}", array_type);
+        return SemType.INT;
+    }
+
+    /**
+     * f0 -> PrimaryExpression()
+     * f1 -> "."
+     * f2 -> Identifier()
+     * f3 -> "("
+     * f4 -> ( ExpressionList() )?
+     * f5 -> ")"
+     */
+    @Override
+    public SemType visit(MessageSend n, Void argu) throws Exception{
+
+        SemType receiver = n.f0.accept(this, null);
+
+        // only objects have methods, a receiver of unknown type has been reported already
+        if(receiver != null && !receiver.isClass())
+        {
+            diagnostics.error(n.f1, "{} called on {}", n.f2.f0, receiver);
+            receiver = null;
+        }
+
+        // the function is unknown if it or the class have not been declared, then its arguments are only checked on their own
+        ClassInfo receiver_class = receiver == null ? null : symbols.getClass(receiver.getName());
+        MethodInfo called = receiver_class == null ? null : resolve(receiver_class, symbol(n.f2));
+
+        // the class has been declared, so the table knows every method it has
+        if(receiver_class != null && called == null) diagnostics.error(n.f2.f0, "method {} is not declared in {}", n.f2.f0, receiver_class.getName());
+
+        int count = 0;
+        if(n.f4.present())
+        {
+            ExpressionList arguments = (ExpressionList) n.f4.node;
+            check_argument(called, count++, n.f3, arguments.f0);
+            for(Node term: arguments.f1.f0.nodes) check_argument(called, count++, ((ExpressionTerm) term).f0, ((ExpressionTerm) term).f1);
+        }
+
+        // returns the type of the function
+        if(called == null) return null;
+        if(count != called.getParameterCount()) diagnostics.error(n.f2.f0, "{} takes {} arguments, not {}", n.f2.f0, called.getParameterCount(), count);
+        return called.getReturnType();
+    }
+
+    // checking if an argument can be passed as the i-th parameter of a function, called is null if the function is unknown
+    // an error is reported at the "(" or "," before the argument
+    private void check_argument(MethodInfo called, int i, NodeToken before, Expression argument) throws Exception {
+
+        SemType type = argument.accept(this, null);
+        if(called == null || i >= called.getParameterCount()) return;
+
+        SemType expected = called.getParameterType(i);
+        if(!is_assignable(type, expected)) diagnostics.error(before, "wrong argument type {} and {}", expected, type);
+    }
+
+    // returns the method a call on an object of the class runs, null if the class has none with that name
+    private MethodInfo resolve(ClassInfo receiver, int method)
+    {
+        if(method < 0) return null;
+
+        // the walk up the parents is done once for every pair, later calls find it here
+        int found = calls.get(receiver.getId(), method);
+        if(found == LongIntMap.MISSING)
+        {
+            found = symbols.resolve(receiver, method) + 1;
+            calls.add(receiver.getId(), method, found);
+        }
+
+        return found == 0 ? null : symbols.getMethod(found - 1);
+    }
+
+    /**
+     * f0 -> Expression()
+     * f1 -> ExpressionTail()
+     */
+    @Override
+    public SemType visit(ExpressionList n, Void argu) throws Exception {
+
+        n.f0.accept(this, null);
+        n.f1.accept(this, null);
+
+        return null;
+    }
+
+    /**
+     * f0 -> ( ExpressionTerm() )*
+     */
+    @Override
+    public SemType visit(ExpressionTail n, Void argu) throws Exception {
+
+        for ( Node node: n.f0.nodes) {
+            node.accept(this, null);
+        }
+        return null;
+    }
+
+    /**
+     * f0 -> ","
+     * f1 -> Expression()
+     */
+    @Override
+    public SemType visit(ExpressionTerm n, Void argu) throws Exception {
+        
+        return n.f1.accept(this, null);
+    }
+
+    @Override
+    public SemType visit(Clause n, Void argu) throws Exception{
+        
+        return n.f0.accept(this, null);
+    }
+
+    @Override
+    public SemType visit(PrimaryExpression n, Void argu) throws Exception{
+
+        return n.f0.accept(this, null);
+    }
+
+    @Override
+    public SemType visit(IntegerLiteral n, Void argu) throws Exception{
+
+        return SemType.INT;
+    }
+
+    @Override
+    public SemType visit(TrueLiteral n, Void argu) throws Exception{
+
+        return SemType.BOOLEAN;
+    }
+
+    @Override
+    public SemType visit(FalseLiteral n, Void argu) throws Exception{
+
+        return SemType.BOOLEAN;
+    }
+
+    // an identifier reached by the visitor is always a variable, names of classes and methods are read from the nodes directly
+    @Override
+    public SemType visit(Identifier n, Void argu) throws Exception{
+        
+        // an undeclared variable has unknown type from here on, so the expressions it is part of are not reported again
+        SemType type = get_variable_type(symbol(n));
+        if(type == null) diagnostics.error(n.f0, "{} undeclared", n.f0);
+
+        return type;
+    }
+
+    @Override
+    public SemType visit(ThisExpression n, Void argu) throws Exception{
+
+        // "this" has the type of the class we are in
+        return current_class.getType();
+    }
+
+    @Override
+    public SemType visit(ArrayAllocationExpression n, Void argu) throws Exception{
+        
+        return n.f0.accept(this, null);
+    }
+
+    /**
+     * f0 -> "new"
+     * f1 -> "boolean"
+     * f2 -> "["
+     * f3 -> Expression()
+     * f4 -> "]"
+     */
+    @Override
+    public SemType visit(BooleanArrayAllocationExpression n, Void argu) throws Exception{
+
+        if(!is_type(n.f3.accept(this, null), SemType.INT)) diagnostics.error(n.f0, "wrong allocation");
+
+        return SemType.BOOLEAN_ARRAY;
+    }
+
+    /**
+     * f0 -> "new"
+     * f1 -> "int"
+     * f2 -> "["
+     * f3 -> Expression()
+     * f4 -> "]"
+     */
+    @Override
+    public SemType visit(IntegerArrayAllocationExpression n, Void argu) throws Exception{
+
+        if(!is_type(n.f3.accept(this, null), SemType.INT)) diagnostics.error(n.f0, "wrong allocation");
+
+        return SemType.INT_ARRAY;
+    }
+
+    /**
+     * f0 -> "new"
+     * f1 -> Identifier()
+     * f2 -> "("
+     * f3 -> ")"
+     */
+    @Override
+    public SemType visit(AllocationExpression n, Void argu) throws Exception{
+
+        return symbols.classType(n.f1.f0.toString());
+    }
+
+    /**
+     * f0 -> "!"
+     * f1 -> Clause()
+     */
+    @Override
+    public SemType visit(NotExpression n, Void argu) throws Exception{
+
+        if(!is_type(n.f1.accept(this, null), SemType.BOOLEAN)) diagnostics.error(n.f0, "wrong logical not");
+
+        return SemType.BOOLEAN;
+    }
+
+    /**
+     * f0 -> "("
+     * f1 -> Expression()
+     * f2 -> ")"
+     */
+    @Override
+    public SemType visit(BracketExpression n, Void argu) throws Exception{
+
+        return n.f1.accept(this, null);
+    }
+
+    // prints the offsets of the fields and the methods a class declares, a method that overrides one of a parent class has no offset of its own
+    // with a packed layout the size of the objects of the class comes after them
+    private void print_class(ClassInfo owner)
+    {
+        Layout layout = symbols.getLayout(pack);
+
+        for(int i = 0; i < owner.getFieldCount(); i++)
+        {
+            offsets.field(owner.getName(), symbols.getNames().name(owner.getField(i)), layout.getFieldOffset(owner, i));
+        }
+
+        List<MethodInfo> methods = owner.getMethods();
+        for(int i = 0; i < methods.size(); i++)
+        {
+            if(!layout.overrides(owner, i)) offsets.method(owner.getName(), methods.get(i).getName(), layout.getMethodOffset(owner, i));
+        }
+
+        if(pack) offsets.size(owner.getName(), layout.getObjectSize(owner), layout.getUnpackedObjectSize(owner));
+
+        offsets.endClass();
+    }
+
+    // prints the offsets of a skimmed program, the same lines as the body pass prints
+    void print_offsets(Outline outline) throws Exception {
+
+        declarations.declare(outline);
+        declarations.finish();
+        print_classes();
+    }
+
+    // prints the offsets of every class in declaration order without checking the bodies,
+    // a class that inherits from a class that has not been declared or from itself has none
+    private void print_classes()
+    {
+        Layout layout = symbols.getLayout(pack);
+        for(ClassInfo info: symbols.getClasses())
+        {
+            // the main class is declared first and has no offsets
+            if(info.getIndex() == 0) offsets.endClass();
+            else if(layout.isKnown(info)) print_class(info);
+        }
+    }
+
+    // checking if the name of a class or method is the one the table has, a second declaration with the same name is not in the table
+    private static boolean declared_at(int line, int column, Identifier name)
+    {
+        return line == name.f0.beginLine && column == name.f0.beginColumn;
+    }
+
+    // the id of a name of the program, -1 for a name that is not declared anywhere
+    private int symbol(Identifier n)
+    {
+        return symbols.getNames().id(n.f0.tokenImage);
+    }
+
+    // returns the type of a variable declared in the current function, class or parent classes, null if it is undeclared
+    private SemType get_variable_type(int name) throws Exception{
+
+        if(current_method != null)
+        {
+            int local = locals.get(name);
+            if(local != IntIntMap.MISSING) return symbols.type(local);
+            SemType type = current_method.lookupParameter(name);
+            if(type != null) return type;
+        }
+
+        return current_class.lookupField(name);
+    }
+
+    // checking if the expression has the expected type, expressions of unknown type are not checked
+    private boolean is_type(SemType type, SemType expected) throws Exception{
+
+        return type == null || type == expected;
+    }
+
+    // checking if a value of type "from" can be stored in a variable of type "to"
+    private boolean is_assignable(SemType from, SemType to) throws Exception{
+
+        // functions that have not been declared have unknown type
+        if(from == null || to == null) return true;
+        if(from == to) return true;
+        if(!from.isClass() || !to.isClass()) return false;
+
+        // classes that have not been declared have unknown parents
+        ClassInfo from_class = symbols.getClass(from.getName());
+        if(from_class == null) return true;
+
+        // a class can be assigned to any of its parent classes
+        ClassInfo to_class = symbols.getClass(to.getName());
+        return to_class != null && from_class.isSubclassOf(to_class);
+    }
+}
@@ -0,0 +1,116 @@
+import java.util.Arrays;
+
+/**
+ * The identifiers of a source file, every name kept once and numbered from 0
+ * in the order the lexer first meets it. Tokens and tree nodes share the one
+ * String of their name, and the checker keys its tables on the number, so a
+ * name is hashed when it is lexed and not every time it is looked up.
+ * The Strings are also interned by the JVM, the tree builder interns every
+ * image again and gets back the same String.
+ */
+public class Names {
+
+    // the name of every id
+    private String[] names;
+    // open addressing table of the names, holds id + 1 and 0 for a free slot
+    private int[] slots;
+    private int count;
+
+    public Names()
+    {
+        names = new String[64];
+        slots = new int[128];
+    }
+
+    // returns the id of a name, adding it if it has not been seen before
+    public int intern(String name)
+    {
+        int mask = slots.length - 1;
+        for(int i = name.hashCode() & mask; ; i = (i + 1) & mask)
+        {
+            int id = slots[i] - 1;
+            if(id < 0) return add(i, name.intern());
+            if(names[id] == name || names[id].equals(name)) return id;
+        }
+    }
+
+    // the same as intern(String) for the characters of a name, the String is only built the first time
+    public int intern(char[] text, int offset, int length)
+    {
+        int hash = 0;
+        for(int i = offset; i < offset + length; i++) hash = 31 * hash + text[i];
+
+        int mask = slots.length - 1;
+        for(int i = hash & mask; ; i = (i + 1) & mask)
+        {
+            int id = slots[i] - 1;
+            if(id < 0) return add(i, new String(text, offset, length).intern());
+            if(same(names[id], text, offset, length)) return id;
+        }
+    }
+
+    // returns the id of a name, -1 if it has not been seen
+    public int id(String name)
+    {
+        int mask = slots.length - 1;
+        for(int i = name.hashCode() & mask; ; i = (i + 1) & mask)
+        {
+            int id = slots[i] - 1;
+            if(id < 0) return -1;
+            // names of this file are the same String, the first compare finds them
+            if(names[id] == name || names[id].equals(name)) return id;
+        }
+    }
+
+    public String name(int id)
+    {
+        return names[id];
+    }
+
+    // number of names, every id is below it
+    public int size()
+    {
+        return count;
+    }
+
+    // forgets every name, the arrays are kept for the next file
+    public void clear()
+    {
+        Arrays.fill(names, 0, count, null);
+        Arrays.fill(slots, 0);
+        count = 0;
+    }
+
+    private int add(int slot, String name)
+    {
+        if(count == names.length) names = Arrays.copyOf(names, count * 2);
+        names[count] = name;
+        slots[slot] = ++count;
+
+        // the table is kept at most half full
+        if(count * 2 > slots.length) rehash();
+        return count - 1;
+    }
+
+    private void rehash()
+    {
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+        for(int id = 0; id < count; id++)
+        {
+            int i = names[id].hashCode() & mask;
+            while(slots[i] != 0) i = (i + 1) & mask;
+            slots[i] = id + 1;
+        }
+    }
+
+    private static boolean same(String name, char[] text, int offset, int length)
+    {
+        if(name.length() != length) return false;
+        for(int i = 0; i < length; i++)
+        {
+            if(name.charAt(i) != text[offset + i]) return false;
+        }
+        return true;
+    }
+}
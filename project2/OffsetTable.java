@@ -0,0 +1,102 @@
+import java.util.Arrays;
+
+/**
+ * The offsets of one program in the order they are found: a field or a
+ * method of a class with its offset, the size of the objects of a class
+ * when the fields are packed, and the end of every class. The visitor
+ * only adds records here, Report turns them into text or JSON once the whole
+ * file has been checked.
+ */
+public class OffsetTable {
+
+    // kinds of records
+    public static final byte FIELD = 0;
+    public static final byte METHOD = 1;
+    public static final byte END_CLASS = 2;
+    public static final byte SIZE = 3;
+
+    private byte[] kinds = new byte[64];
+    private String[] owners = new String[64];
+    private String[] names = new String[64];
+    private int[] offsets = new int[64];
+    // the size without packing, for SIZE records
+    private int[] unpacked = new int[64];
+    private int size;
+
+    // the offset of a field of the class owner
+    public void field(String owner, String name, int offset)
+    {
+        add(FIELD, owner, name, offset);
+    }
+
+    // the offset of a method of the class owner
+    public void method(String owner, String name, int offset)
+    {
+        add(METHOD, owner, name, offset);
+    }
+
+    // the bytes of an object of the class owner with packed fields, and without
+    public void size(String owner, int size, int unpackedSize)
+    {
+        add(SIZE, owner, null, size);
+        unpacked[this.size - 1] = unpackedSize;
+    }
+
+    // every record after this one belongs to the next class
+    public void endClass()
+    {
+        add(END_CLASS, null, null, 0);
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public byte getKind(int i)
+    {
+        return kinds[i];
+    }
+
+    // the class of the i-th record, null for the end of a class
+    public String getOwner(int i)
+    {
+        return owners[i];
+    }
+
+    // the field or method of the i-th record, null for the other records
+    public String getName(int i)
+    {
+        return names[i];
+    }
+
+    // the offset of a field or method, the packed size for a SIZE record
+    public int getOffset(int i)
+    {
+        return offsets[i];
+    }
+
+    // the size without packing of a SIZE record
+    public int getUnpackedSize(int i)
+    {
+        return unpacked[i];
+    }
+
+    private void add(byte kind, String owner, String name, int offset)
+    {
+        if(size == kinds.length)
+        {
+            kinds = Arrays.copyOf(kinds, size * 2);
+            owners = Arrays.copyOf(owners, size * 2);
+            names = Arrays.copyOf(names, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 2);
+            unpacked = Arrays.copyOf(unpacked, size * 2);
+        }
+
+        kinds[size] = kind;
+        owners[size] = owner;
+        names[size] = name;
+        offsets[size] = offset;
+        size++;
+    }
+}
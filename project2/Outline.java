@@ -0,0 +1,107 @@
+import syntaxtree.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The declarations of a program as found by MiniJavaParser.Skim(): the classes
+ * with their fields and method headers. The method bodies have been skipped.
+ */
+public class Outline {
+
+    private final Identifier mainClass;
+    // every class after the main class, in declaration order
+    private final List<ClassOutline> classes = new ArrayList<ClassOutline>();
+
+    Outline(Identifier mainClass)
+    {
+        this.mainClass = mainClass;
+    }
+
+    public Identifier getMainClass()
+    {
+        return mainClass;
+    }
+
+    public List<ClassOutline> getClasses()
+    {
+        return Collections.unmodifiableList(classes);
+    }
+
+    // keeps the parts of a class Skim() has parsed, the rest of its nodes are not needed
+    void addClass(SkimmedClass declaration)
+    {
+        // ( "extends" Identifier() )?
+        Identifier parentName = declaration.f2.present() ? (Identifier) ((NodeSequence) declaration.f2.node).elementAt(1) : null;
+        ClassOutline info = new ClassOutline(declaration.f1, parentName);
+        for(Node field: declaration.f4.nodes) info.fields.add((VarDeclaration) field);
+        for(Node method: declaration.f5.nodes) info.methods.add(new MethodOutline((SkimmedMethod) method));
+        classes.add(info);
+    }
+
+    public static class ClassOutline {
+
+        private final Identifier name;
+        // null if the class does not extend any
+        private final Identifier parentName;
+        private final List<VarDeclaration> fields = new ArrayList<VarDeclaration>();
+        private final List<MethodOutline> methods = new ArrayList<MethodOutline>();
+
+        ClassOutline(Identifier name, Identifier parentName)
+        {
+            this.name = name;
+            this.parentName = parentName;
+        }
+
+        public Identifier getName()
+        {
+            return name;
+        }
+
+        public Identifier getParentName()
+        {
+            return parentName;
+        }
+
+        public List<VarDeclaration> getFields()
+        {
+            return Collections.unmodifiableList(fields);
+        }
+
+        public List<MethodOutline> getMethods()
+        {
+            return Collections.unmodifiableList(methods);
+        }
+    }
+
+    public static class MethodOutline {
+
+        private final Type type;
+        private final Identifier name;
+        // null if the method has no parameters
+        private final FormalParameterList parameters;
+
+        MethodOutline(SkimmedMethod declaration)
+        {
+            type = declaration.f1;
+            name = declaration.f2;
+            parameters = declaration.f4.present() ? (FormalParameterList) declaration.f4.node : null;
+        }
+
+        public Type getType()
+        {
+            return type;
+        }
+
+        public Identifier getName()
+        {
+            return name;
+        }
+
+        public FormalParameterList getParameters()
+        {
+            return parameters;
+        }
+    }
+}
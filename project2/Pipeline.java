@@ -0,0 +1,140 @@
+import syntaxtree.*;
+
+import java.io.InputStream;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The parsers of one thread.
+ * They are created for the first file the thread checks and then reused with
+ * ReInit, so checking many small files does not allocate new lexer buffers
+ * for each of them.
+ * The lexers number the identifiers of every file in one Names table, and the
+ * visitor of the file looks the same ids up in it. The visitor and its symbol
+ * table are made for every file, so nothing of a file that has been checked
+ * stays alive in the thread.
+ */
+class Pipeline {
+
+    private static final ThreadLocal<Pipeline> WORKERS = ThreadLocal.withInitial(Pipeline::new);
+
+    // the parser reading a stream owns its JavaCharStream, the other one gets the SourceCharStream of every file
+    private MiniJavaParser streamParser;
+    private MiniJavaParser bufferParser;
+    // the parser of Skim(), reading through a SkimTokenManager from either kind of stream
+    private MiniJavaParser skimParser;
+    private JavaCharStream skimStream;
+    private final Names names = new Names();
+
+    private Pipeline() {}
+
+    // returns the pipeline of the current thread
+    static Pipeline get()
+    {
+        return WORKERS.get();
+    }
+
+    // builds the tree of a file read through the stream
+    Goal parse(InputStream in) throws ParseException
+    {
+        return streamParser(in).Goal();
+    }
+
+    // parses a file read through the stream one class at a time, the handler gets every class as soon as it is complete
+    void parseClasses(InputStream in, ClassHandler handler) throws Exception
+    {
+        // the names start again from 0, so a second pass over the same file gets the same ids as the first
+        streamParser(in).Classes(handler);
+    }
+
+    // reads the declarations of a file read through the stream, skipping the method bodies
+    Outline skim(InputStream in) throws ParseException
+    {
+        if(skimStream == null) skimStream = new JavaCharStream(in);
+        else skimStream.ReInit(in);
+
+        return skimParser(skimStream).Skim();
+    }
+
+    // the parser of this thread reading from the start of another stream, with the names of the last file forgotten
+    private MiniJavaParser streamParser(InputStream in)
+    {
+        if(streamParser == null)
+        {
+            streamParser = new MiniJavaParser(in);
+            streamParser.token_source.names = names;
+        }
+        else streamParser.ReInit(in);
+
+        names.clear();
+        return streamParser;
+    }
+
+    // reads the declarations of a file that has been read in one go, skipping the method bodies
+    Outline skim(SourceCharStream source) throws ParseException
+    {
+        try{
+            return skimParser(source).Skim();
+        }
+        finally{
+            // the outline has its own copy of every name, the text of the file is not needed any more
+            source.Done();
+        }
+    }
+
+    // the parser of this thread that skips the method bodies, reading from the start of another stream with the names of the last file forgotten
+    private MiniJavaParser skimParser(JavaCharStream stream)
+    {
+        if(skimParser == null)
+        {
+            skimParser = new MiniJavaParser(new SkimTokenManager(stream));
+            skimParser.token_source.names = names;
+        }
+        else
+        {
+            skimParser.token_source.ReInit(stream);
+            skimParser.ReInit(skimParser.token_source);
+        }
+
+        names.clear();
+        return skimParser;
+    }
+
+    // builds the tree of a file that has been read in one go
+    Goal parse(SourceCharStream source) throws ParseException
+    {
+        try{
+            return bufferParser(source).Goal();
+        }
+        finally{
+            // the tree has its own copy of every image, the text of the file is not needed any more
+            source.Done();
+        }
+    }
+
+    // the parser of this thread reading from a file that has been read in one go, with the names of the last file forgotten
+    private MiniJavaParser bufferParser(SourceCharStream source)
+    {
+        if(bufferParser == null)
+        {
+            bufferParser = new MiniJavaParser(new MiniJavaParserTokenManager(source));
+            bufferParser.token_source.names = names;
+        }
+        else
+        {
+            bufferParser.token_source.ReInit(source);
+            bufferParser.ReInit(bufferParser.token_source);
+        }
+
+        names.clear();
+        return bufferParser;
+    }
+
+    // a visitor for the file the parsers of this thread have just read, pool checks the method bodies when it is not null
+    MyVisitor visitor(ForkJoinPool pool, boolean pack)
+    {
+        MyVisitor visitor = new MyVisitor(new SymbolTable(names));
+        visitor.pool = pool;
+        visitor.pack = pack;
+        return visitor;
+    }
+}
@@ -0,0 +1,162 @@
+import java.io.PrintStream;
+
+/**
+ * Everything one file prints, kept in a buffer until the file has been
+ * checked and then written to the output in one go, so a big program is
+ * not printed one line at a time.
+ *
+ * TEXT is the output "java Main" has always had: the offsets of every class
+ * followed by an empty line, then the errors. With --pack every class also
+ * has a line "A : 16 bytes, 8 saved" with the size of its objects and what
+ * packing saves on them. NDJSON writes one JSON object per line instead,
+ * every one of them with the file it belongs to:
+ *
+ *   {"file":"A.java","class":"A","field":"x","offset":0}
+ *   {"file":"A.java","class":"A","method":"m","offset":0}
+ *   {"file":"A.java","class":"A","size":16,"unpacked":24}
+ *   {"file":"A.java","error":"wrong addition","line":9,"column":15}
+ *   {"file":"A.java","syntax":"Encountered ..."}
+ *   {"file":"A.java","status":"error","errors":1}
+ *
+ * The last object of a file is always its status, "ok", "error", "syntax"
+ * or "missing".
+ */
+public class Report {
+
+    public enum Format { TEXT, NDJSON }
+
+    private final String file;
+    private final Format format;
+    // the output of the file so far
+    private final StringBuilder text = new StringBuilder();
+    private String status = "ok";
+    private int errors;
+
+    public Report(String file, Format format)
+    {
+        this.file = file;
+        this.format = format;
+    }
+
+    // adds the offsets of the program
+    public void offsets(OffsetTable table)
+    {
+        for(int i = 0; i < table.size(); i++)
+        {
+            if(format == Format.TEXT)
+            {
+                if(table.getKind(i) == OffsetTable.END_CLASS) text.append('\n');
+                else if(table.getKind(i) == OffsetTable.SIZE) text.append(table.getOwner(i)).append(" : ").append(table.getOffset(i)).append(" bytes, ").append(table.getUnpackedSize(i) - table.getOffset(i)).append(" saved\n");
+                else text.append(table.getOwner(i)).append('.').append(table.getName(i)).append(" : ").append(table.getOffset(i)).append('\n');
+            }
+            else if(table.getKind(i) == OffsetTable.SIZE)
+            {
+                start_object();
+                text.append(",\"class\":");
+                json_string(table.getOwner(i));
+                text.append(",\"size\":").append(table.getOffset(i)).append(",\"unpacked\":").append(table.getUnpackedSize(i)).append("}\n");
+            }
+            else if(table.getKind(i) != OffsetTable.END_CLASS)
+            {
+                start_object();
+                text.append(",\"class\":");
+                json_string(table.getOwner(i));
+                text.append(table.getKind(i) == OffsetTable.FIELD ? ",\"field\":" : ",\"method\":");
+                json_string(table.getName(i));
+                text.append(",\"offset\":").append(table.getOffset(i)).append("}\n");
+            }
+        }
+    }
+
+    // adds the semantic errors of the program
+    public void errors(Diagnostics diagnostics)
+    {
+        if(diagnostics.isEmpty()) return;
+        status = "error";
+        errors += diagnostics.size();
+
+        StringBuilder message = new StringBuilder();
+        for(Diagnostics.Diagnostic error: diagnostics.getErrors())
+        {
+            if(format == Format.TEXT)
+            {
+                error.appendTo(text);
+                text.append('\n');
+            }
+            else
+            {
+                message.setLength(0);
+                error.appendMessage(message);
+                start_object();
+                text.append(",\"error\":");
+                json_string(message);
+                text.append(",\"line\":").append(error.getLine()).append(",\"column\":").append(error.getColumn()).append("}\n");
+            }
+        }
+    }
+
+    // the file could not be parsed, message is the one of the parser
+    public void syntaxError(String message)
+    {
+        status = "syntax";
+        errors++;
+
+        if(format == Format.TEXT)
+        {
+            text.append(message).append('\n');
+        }
+        else
+        {
+            start_object();
+            text.append(",\"syntax\":");
+            json_string(message);
+            text.append("}\n");
+        }
+    }
+
+    // the file could not be opened, the reason has been printed to standard error
+    public void missing()
+    {
+        status = "missing";
+    }
+
+    // ends the output of the file and writes all of it to out
+    public void writeTo(PrintStream out)
+    {
+        if(format == Format.TEXT)
+        {
+            text.append('\n');
+        }
+        else
+        {
+            start_object();
+            text.append(",\"status\":\"").append(status).append("\",\"errors\":").append(errors).append("}\n");
+        }
+
+        out.append(text);
+        out.flush();
+    }
+
+    private void start_object()
+    {
+        text.append("{\"file\":");
+        json_string(file);
+    }
+
+    // adds a JSON string with the quotes, backslashes and control characters of value escaped
+    private void json_string(CharSequence value)
+    {
+        text.append('"');
+        for(int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            if(c == '"' || c == '\\') text.append('\\').append(c);
+            else if(c == '\n') text.append("\\n");
+            else if(c == '\r') text.append("\\r");
+            else if(c == '\t') text.append("\\t");
+            else if(c < 0x20) text.append(String.format("\\u%04x", (int) c));
+            else text.append(c);
+        }
+        text.append('"');
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * The resolved type of a declaration or an expression.
+ * Every type exists only once in a program, so two types are the same exactly when they are ==.
+ * Every type also has a small int id, so tables can store types as plain ints.
+ * The types of classes belong to the symbol table of the program and are
+ * forgotten with it, see SymbolTable.classType.
+ */
+public final class SemType {
+
+    public static final SemType INT = new SemType("int", false, 0);
+    public static final SemType BOOLEAN = new SemType("boolean", false, 1);
+    public static final SemType INT_ARRAY = new SemType("int[]", false, 2);
+    public static final SemType BOOLEAN_ARRAY = new SemType("boolean[]", false, 3);
+
+    // the fixed types by id
+    private static final SemType[] FIXED = { INT, BOOLEAN, INT_ARRAY, BOOLEAN_ARRAY };
+    // the id of a class type is this plus the id of its name
+    static final int FIRST_CLASS_ID = FIXED.length;
+
+    private final String name;
+    private final boolean isClass;
+    private final int id;
+
+    private SemType(String name, boolean isClass, int id)
+    {
+        this.name = name;
+        this.isClass = isClass;
+        this.id = id;
+    }
+
+    // the type of the class with the given name, made by the symbol table of the program
+    SemType(String classname, int id)
+    {
+        this(classname, true, id);
+    }
+
+    // returns the fixed type with the given id, which is below FIRST_CLASS_ID
+    static SemType fixed(int id)
+    {
+        return FIXED[id];
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    // the fixed types have the ids 0 to 3, class types come after them
+    public int getId()
+    {
+        return id;
+    }
+
+    public boolean isClass()
+    {
+        return isClass;
+    }
+
+    public boolean isArray()
+    {
+        return this == INT_ARRAY || this == BOOLEAN_ARRAY;
+    }
+
+    // the type of a single element of an array type
+    public SemType elementType()
+    {
+        if(this == INT_ARRAY) return INT;
+        if(this == BOOLEAN_ARRAY) return BOOLEAN;
+        return null;
+    }
+
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * The token manager MiniJavaParser.Skim() reads through. The tokens inside
+ * the body of a method are dropped and only the braces around it are passed
+ * on, so the parser goes from one declaration to the next without seeing
+ * the statements.
+ */
+class SkimTokenManager extends MiniJavaParserTokenManager {
+
+    // braces that are open before the next token, the body of a method is inside two of them
+    private int depth;
+
+    SkimTokenManager(JavaCharStream stream)
+    {
+        super(stream);
+    }
+
+    @Override
+    public void ReInit(JavaCharStream stream)
+    {
+        super.ReInit(stream);
+        depth = 0;
+    }
+
+    // the names inside a body are dropped with it, so they are not numbered
+    @Override
+    void CommonTokenAction(Token t)
+    {
+        if(depth < 2) super.CommonTokenAction(t);
+    }
+
+    @Override
+    public Token getNextToken()
+    {
+        while(true)
+        {
+            Token t = super.getNextToken();
+            if(t.kind == LBRACE)
+            {
+                if(++depth <= 2) return t;
+            }
+            else if(t.kind == RBRACE)
+            {
+                if(depth-- <= 2) return t;
+            }
+            // a file that ends inside a body is reported as a missing brace
+            else if(depth < 2 || t.kind == EOF) return t;
+        }
+    }
+}
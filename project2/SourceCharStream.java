@@ -0,0 +1,344 @@
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A JavaCharStream over a whole source file that has been read in one go.
+ * Unicode escapes are decoded once when the stream is created, and the
+ * characters are then served straight from the decoded text. Lines and
+ * columns come from a LineIndex of the file instead of being stored for
+ * every buffered character.
+ */
+public class SourceCharStream extends JavaCharStream {
+
+    // files at least this big are memory mapped instead of read into a buffer
+    static final long MAP_THRESHOLD = 1 << 20;
+
+    // the text with the unicode escapes decoded
+    private char[] source;
+    private int length;
+    // position of the last character returned
+    private int pos;
+    // position of the first character of the current token
+    private int tokenStart;
+    // line starts of the file as written, before decoding the escapes
+    private LineIndex index;
+    private int rawLength;
+    // decoded position of every escape and the characters saved by the escapes up to and including it
+    private int[] escapeAt;
+    private int[] escapeShift;
+    private int escapes;
+    // decoded position where a lexical action moved the line and column of a token, the line it was on
+    // and how far the lines after it and the columns of the rest of its line moved
+    private int[] adjustAt;
+    private int[] adjustFromLine;
+    private int[] adjustLines;
+    private int[] adjustColumns;
+    private int adjusts;
+    // the last position looked up, tokens ask for the line and the column of the same position
+    private int located = Integer.MIN_VALUE;
+    private int locatedLine;
+    private int locatedColumn;
+
+    public SourceCharStream(char[] raw, int length)
+    {
+        super((java.io.Reader) null, 1, 1, 1);
+        rawLength = length;
+        index = new LineIndex(raw, length, tabSize);
+        escapeAt = new int[0];
+        escapeShift = new int[0];
+        adjustAt = new int[0];
+        adjustFromLine = new int[0];
+        adjustLines = new int[0];
+        adjustColumns = new int[0];
+        decode(raw, length);
+        pos = -1;
+        tokenStart = 0;
+    }
+
+    // reads the whole file through its channel and decodes it in a single pass
+    public static SourceCharStream open(String file) throws IOException
+    {
+        CharBuffer decoded;
+
+        try(FileInputStream fis = new FileInputStream(file); FileChannel channel = fis.getChannel())
+        {
+            long size = channel.size();
+            ByteBuffer bytes;
+            if(size >= MAP_THRESHOLD)
+            {
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            else
+            {
+                bytes = ByteBuffer.allocate((int) size);
+                while(bytes.hasRemaining() && channel.read(bytes) != -1);
+                bytes.flip();
+            }
+
+            // same charset as the InputStreamReader of the default path
+            decoded = Charset.defaultCharset().decode(bytes);
+        }
+
+        return new SourceCharStream(decoded.array(), decoded.limit());
+    }
+
+    // replaces the unicode escapes the same way JavaCharStream does, text without any is used as it is
+    private void decode(char[] raw, int length)
+    {
+        int first = first_escape(raw, length);
+        if(first < 0)
+        {
+            source = raw;
+            this.length = length;
+            return;
+        }
+
+        char[] text = Arrays.copyOf(raw, length);
+        int n = first;
+        int i = first;
+        int saved = 0;
+        while(i < length)
+        {
+            char c = raw[i];
+            if(c != '\\')
+            {
+                text[n++] = c;
+                i++;
+                continue;
+            }
+
+            // an odd number of backslashes followed by u starts an escape with the last backslash
+            int run = i;
+            while(run < length && raw[run] == '\\') run++;
+            if(run == length || raw[run] != 'u' || ((run - i) & 1) == 0)
+            {
+                while(i < run) text[n++] = raw[i++];
+                continue;
+            }
+            while(i < run - 1) text[n++] = raw[i++];
+
+            int start = i;
+            i = run;
+            while(i < length && raw[i] == 'u') i++;
+            int value = i + 4 > length ? -1 : hex(raw, i) << 12 | hex(raw, i + 1) << 8 | hex(raw, i + 2) << 4 | hex(raw, i + 3);
+            // reported at the last u like JavaCharStream does
+            if(value < 0) invalid_escape(i - 1);
+            text[n] = (char) value;
+            i += 4;
+
+            saved += i - start - 1;
+            add_escape(n++, saved);
+        }
+
+        source = text;
+        this.length = n;
+    }
+
+    // position of the first backslash followed by u, -1 if there is none
+    private static int first_escape(char[] raw, int length)
+    {
+        for(int i = 0; i < length - 1; i++)
+        {
+            if(raw[i] == '\\' && raw[i+1] == 'u') return i;
+        }
+
+        return -1;
+    }
+
+    // value of a hex digit, a negative number that makes the whole escape negative otherwise
+    private static int hex(char[] raw, int i)
+    {
+        char c = raw[i];
+        if(c >= '0' && c <= '9') return c - '0';
+        if(c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if(c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return Integer.MIN_VALUE >> 12;
+    }
+
+    private void invalid_escape(int offset)
+    {
+        throw new Error("Invalid escape character at line " + index.line(offset) + " column " + index.column(offset) + ".");
+    }
+
+    private void add_escape(int at, int saved)
+    {
+        if(escapes == escapeAt.length)
+        {
+            escapeAt = Arrays.copyOf(escapeAt, Math.max(16, escapes * 2));
+            escapeShift = Arrays.copyOf(escapeShift, escapeAt.length);
+        }
+        escapeAt[escapes] = at;
+        escapeShift[escapes] = saved;
+        escapes++;
+    }
+
+    // offset in the file as written of a decoded position, an escape is where its backslash is
+    private int raw_offset(int p)
+    {
+        if(escapes == 0 || p <= escapeAt[0]) return p;
+
+        // number of escapes before p
+        int k = Arrays.binarySearch(escapeAt, 0, escapes, p);
+        if(k < 0) k = -k - 1;
+        return p + escapeShift[k - 1];
+    }
+
+    // line and column of a decoded position, the end of file is where the last character is
+    private void locate(int p)
+    {
+        if(p == located) return;
+        located = p;
+        if(rawLength == 0)
+        {
+            locatedLine = line;
+            locatedColumn = column;
+            return;
+        }
+
+        int offset = p >= length ? rawLength - 1 : raw_offset(p);
+        locatedLine = index.line(offset);
+        locatedColumn = index.column(offset);
+        if(adjusts == 0 || p < adjustAt[0]) return;
+
+        // the last adjustment at or before p, JavaCharStream counts on from the line and column it set
+        int k = Arrays.binarySearch(adjustAt, 0, adjusts, p);
+        if(k < 0) k = -k - 2;
+        if(locatedLine == adjustFromLine[k]) locatedColumn += adjustColumns[k];
+        locatedLine += adjustLines[k];
+    }
+
+    private int line_of(int p)
+    {
+        locate(p);
+        return locatedLine;
+    }
+
+    private int column_of(int p)
+    {
+        locate(p);
+        return locatedColumn;
+    }
+
+    @Override
+    public char BeginToken() throws IOException
+    {
+        tokenStart = pos + 1;
+        if(tokenStart >= length)
+        {
+            // the end of file token takes the position of the last character
+            tokenStart = pos = length;
+            throw new IOException();
+        }
+
+        return readChar();
+    }
+
+    @Override
+    public char readChar() throws IOException
+    {
+        if(pos + 1 >= length) throw new IOException();
+
+        return source[++pos];
+    }
+
+    @Override
+    public void backup(int amount)
+    {
+        pos -= amount;
+    }
+
+    @Override
+    @Deprecated
+    public int getColumn()
+    {
+        return column_of(pos);
+    }
+
+    @Override
+    @Deprecated
+    public int getLine()
+    {
+        return line_of(pos);
+    }
+
+    @Override
+    public int getEndColumn()
+    {
+        return column_of(pos);
+    }
+
+    @Override
+    public int getEndLine()
+    {
+        return line_of(pos);
+    }
+
+    @Override
+    public int getBeginColumn()
+    {
+        return column_of(tokenStart);
+    }
+
+    @Override
+    public int getBeginLine()
+    {
+        return line_of(tokenStart);
+    }
+
+    @Override
+    public String GetImage()
+    {
+        return new String(source, tokenStart, pos - tokenStart + 1);
+    }
+
+    @Override
+    public char[] GetSuffix(int len)
+    {
+        char[] ret = new char[len];
+        System.arraycopy(source, pos - len + 1, ret, 0, len);
+        return ret;
+    }
+
+    @Override
+    public void Done()
+    {
+        super.Done();
+        source = null;
+        index = null;
+    }
+
+    // moves the start of the current token to the given line and column, the characters after it move with it
+    @Override
+    public void adjustBeginLineColumn(int newLine, int newCol)
+    {
+        // tokens are adjusted in the order they are read, a second adjustment of the same token replaces the first
+        if(adjusts > 0 && adjustAt[adjusts - 1] == tokenStart) adjusts--;
+
+        // the line and column the token has without any adjustment
+        int offset = tokenStart >= length ? rawLength - 1 : raw_offset(tokenStart);
+        int fromLine = index.line(offset);
+        int fromColumn = index.column(offset);
+
+        if(adjusts == adjustAt.length)
+        {
+            adjustAt = Arrays.copyOf(adjustAt, Math.max(4, adjusts * 2));
+            adjustFromLine = Arrays.copyOf(adjustFromLine, adjustAt.length);
+            adjustLines = Arrays.copyOf(adjustLines, adjustAt.length);
+            adjustColumns = Arrays.copyOf(adjustColumns, adjustAt.length);
+        }
+        adjustAt[adjusts] = tokenStart;
+        adjustFromLine[adjusts] = fromLine;
+        adjustLines[adjusts] = newLine - fromLine;
+        adjustColumns[adjusts] = newCol - fromColumn;
+        adjusts++;
+
+        located = Integer.MIN_VALUE;
+        line = newLine;
+        column = newCol;
+    }
+}
@@ -0,0 +1,286 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The declarations of a MiniJava program.
+ * Every class is a scope of its own, found by the id of its name in constant time.
+ * The members of all the classes are kept in two tables keyed on the ids of
+ * the class and of the member, so a program with many classes does not need
+ * a map per class.
+ * The table is filled by the declaration pass and frozen before the method
+ * bodies are checked, after that it is only read.
+ */
+public class SymbolTable {
+
+    // the ids of the names of the program, shared with the lexer
+    private final Names names;
+    // every class of the program, in declaration order
+    private final List<ClassInfo> classes;
+    // the class declared with every name id, null where there is none
+    private ClassInfo[] byName;
+    // type id of every field, keyed on the class and the field
+    private final LongIntMap fields;
+    // position in methods of every method, keyed on the class and the method
+    private final LongIntMap methodIndex;
+    // every method of the program, in declaration order
+    private final List<MethodInfo> methods;
+    // set once every declaration has been added
+    private boolean frozen;
+    // offsets of the fields and methods of every class, made the first time they are asked for
+    private Layout layout;
+    private Layout packedLayout;
+    // the type of every class name the program uses, by name id, made the first time it is asked for
+    private volatile SemType[] classTypes;
+
+    public SymbolTable(Names names)
+    {
+        this.names = names;
+        classes = new ArrayList<ClassInfo>();
+        byName = new ClassInfo[64];
+        fields = new LongIntMap(64);
+        methodIndex = new LongIntMap(64);
+        methods = new ArrayList<MethodInfo>();
+        classTypes = new SemType[64];
+    }
+
+    // adds a new class, the parent is -1 if it does not extend any, returns null if a class with the same name already exists
+    public ClassInfo addClass(int name, int parent)
+    {
+        checkWritable();
+        if(getClass(name) != null) return null;
+
+        if(name >= byName.length) byName = Arrays.copyOf(byName, Math.max(name + 1, byName.length * 2));
+        ClassInfo info = new ClassInfo(this, classes.size(), name, parent);
+        byName[name] = info;
+        classes.add(info);
+        return info;
+    }
+
+    public Names getNames()
+    {
+        return names;
+    }
+
+    // no class, field, method or parameter can be added after this
+    public void freeze()
+    {
+        frozen = true;
+        number_classes();
+    }
+
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    // the layout of every class with the fields in declaration order, the table has to be frozen
+    public Layout getLayout()
+    {
+        return getLayout(false);
+    }
+
+    // the layout of every class, with the fields packed or in declaration order
+    public Layout getLayout(boolean packed)
+    {
+        if(packed)
+        {
+            if(packedLayout == null) packedLayout = new Layout(this, true);
+            return packedLayout;
+        }
+
+        if(layout == null) layout = new Layout(this, false);
+        return layout;
+    }
+
+    void checkWritable()
+    {
+        if(frozen) throw new IllegalStateException("the symbol table is frozen");
+    }
+
+    // adds a field to a class, returns false if the class already has a field with the same name
+    boolean addField(int owner, int field, SemType type)
+    {
+        return fields.add(owner, field, type.getId());
+    }
+
+    // the type of a field declared in a class, null if the class has none with that name
+    SemType fieldType(int owner, int field)
+    {
+        int type = fields.get(owner, field);
+        if(type == LongIntMap.MISSING) return null;
+        return type(type);
+    }
+
+    // adds a method to a class, returns false if the class already has a method with the same name
+    boolean addMethod(int owner, MethodInfo method)
+    {
+        if(!methodIndex.add(owner, method.getId(), methods.size())) return false;
+        methods.add(method);
+        return true;
+    }
+
+    // a method declared in a class, null if the class has none with that name
+    MethodInfo method(int owner, int method)
+    {
+        int index = methodIndex.get(owner, method);
+        if(index == LongIntMap.MISSING) return null;
+        return methods.get(index);
+    }
+
+    // position of the method a class declares or inherits with that name, -1 if it has none
+    int resolve(ClassInfo info, int method)
+    {
+        for(; info != null; info = info.getParent())
+        {
+            int index = methodIndex.get(info.getId(), method);
+            if(index != LongIntMap.MISSING) return index;
+        }
+
+        return -1;
+    }
+
+    // the method at a position returned by resolve
+    MethodInfo getMethod(int index)
+    {
+        return methods.get(index);
+    }
+
+    // returns the type with the given id, a fixed type or a class type of this program
+    public SemType type(int id)
+    {
+        if(id < SemType.FIRST_CLASS_ID) return SemType.fixed(id);
+        return classTypes[id - SemType.FIRST_CLASS_ID];
+    }
+
+    // returns the type of the class with the given name, declared or not
+    public SemType classType(String name)
+    {
+        int id = names.id(name);
+        SemType[] types = classTypes;
+        if(id >= 0 && id < types.length && types[id] != null) return types[id];
+        return new_class_type(name);
+    }
+
+    // the checkers of the method bodies can ask for types at the same time, so new types are made one at a time
+    // a tree that was not lexed with the names of the table adds its names here, it is checked without the pool
+    private synchronized SemType new_class_type(String name)
+    {
+        int id = names.intern(name);
+        SemType[] types = classTypes;
+        if(id < types.length && types[id] != null) return types[id];
+
+        if(id >= types.length) types = Arrays.copyOf(types, Math.max(id + 1, types.length * 2));
+        types[id] = new SemType(names.name(id), SemType.FIRST_CLASS_ID + id);
+        classTypes = types;
+        return types[id];
+    }
+
+    // returns the class with the given name id, null if it has not been declared
+    public ClassInfo getClass(int name)
+    {
+        if(name < 0 || name >= byName.length) return null;
+        return byName[name];
+    }
+
+    // returns the class with the given name, null if it has not been declared
+    public ClassInfo getClass(String name)
+    {
+        return getClass(names.id(name));
+    }
+
+    public boolean containsClass(String name)
+    {
+        return getClass(name) != null;
+    }
+
+    public Collection<ClassInfo> getClasses()
+    {
+        return Collections.unmodifiableCollection(classes);
+    }
+
+    // checking if a class is the same as or inherits from another class, once the table is frozen
+    public boolean isSubclass(String name, String ancestor)
+    {
+        ClassInfo info = getClass(name);
+        ClassInfo other = getClass(ancestor);
+        return info != null && other != null && info.isSubclassOf(other);
+    }
+
+    // returns one class of every inheritance cycle, the first one the walks run into
+    // a walk up the parents stops at the first class an earlier walk has seen, so every class is seen once
+    public List<ClassInfo> findCycles()
+    {
+        List<ClassInfo> cycles = new ArrayList<ClassInfo>();
+
+        // 0 for a class not seen yet, 1 for a class of the walk going on, 2 for a class an earlier walk has seen
+        byte[] state = new byte[classes.size()];
+        for(ClassInfo start: classes)
+        {
+            ClassInfo info = start;
+            while(info != null && state[info.getIndex()] == 0)
+            {
+                state[info.getIndex()] = 1;
+                info = info.getParent();
+            }
+
+            // the walk came back to one of its own classes
+            if(info != null && state[info.getIndex()] == 1) cycles.add(info);
+
+            for(info = start; info != null && state[info.getIndex()] == 1; info = info.getParent()) state[info.getIndex()] = 2;
+        }
+
+        return cycles;
+    }
+
+    // numbers the classes in the order a depth first walk of the inheritance trees enters and leaves them,
+    // a class inherits from another exactly when the walk enters and leaves it while it is inside the other,
+    // so a subclass test is two compares however deep the hierarchy is
+    // the walk starts from the classes with no declared parent, a class whose parents never reach one is not numbered
+    private void number_classes()
+    {
+        int count = classes.size();
+
+        // children are linked from the last to the first, so they are walked in declaration order
+        int[] firstChild = new int[count];
+        int[] nextSibling = new int[count];
+        Arrays.fill(firstChild, -1);
+        for(int i = count - 1; i >= 0; i--)
+        {
+            ClassInfo parent = classes.get(i).getParent();
+            if(parent == null) continue;
+            nextSibling[i] = firstChild[parent.getIndex()];
+            firstChild[parent.getIndex()] = i;
+        }
+
+        // the walk keeps its own stack, a hierarchy can be thousands of classes deep
+        int[] stack = new int[count];
+        int clock = 0;
+        for(int root = 0; root < count; root++)
+        {
+            if(classes.get(root).getParent() != null) continue;
+
+            int top = 0;
+            stack[top++] = root;
+            classes.get(root).enter = clock++;
+            while(top > 0)
+            {
+                int current = stack[top - 1];
+                int child = firstChild[current];
+                if(child >= 0)
+                {
+                    firstChild[current] = nextSibling[child];
+                    classes.get(child).enter = clock++;
+                    stack[top++] = child;
+                }
+                else
+                {
+                    classes.get(current).exit = clock++;
+                    top--;
+                }
+            }
+        }
+    }
+}
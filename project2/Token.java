@@ -1,10 +1,10 @@
 /* Generated By:JavaCC: Do not edit this line. Token.java Version 5.0 */
-/* JavaCCOptions:TOKEN_EXTENDS=,KEEP_LINE_COL=null,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+/* JavaCCOptions:TOKEN_EXTENDS=TokenSymbol,KEEP_LINE_COL=null,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
 /**
  * Describes the input token stream.
  */
 
-public class Token implements java.io.Serializable {
+public class Token extends TokenSymbol implements java.io.Serializable {
 
   /**
    * The version identifier for this Serializable class.
@@ -126,4 +126,4 @@ public class Token implements java.io.Serializable {
   }
 
 }
-/* JavaCC - OriginalChecksum=6145f5d5b504ccb4f95e09f2ce3e748a (do not edit this line) */
+/* JavaCC - OriginalChecksum=0c7a4f52a56e90e4d1a04c665dff26ed (do not edit this line) */
@@ -0,0 +1,9 @@
+/**
+ * What the lexer and the parser add to a Token, Token extends this class
+ * through the TOKEN_EXTENDS option of the grammar.
+ */
+public class TokenSymbol {
+
+    // id of an identifier in the Names of the lexer that matched it, -1 for every other token
+    public int symbol = -1;
+}
@@ -0,0 +1,35 @@
+import java.util.Locale;
+
+/**
+ * Small benchmark runner for the checker.
+ * Every benchmark is warmed up first, then timed over several rounds, and the
+ * average time of a single operation is printed.
+ */
+public class Bench {
+
+    // a benchmarked piece of work, returns how many operations it performed
+    public interface Task {
+        long run() throws Exception;
+    }
+
+    // results are stored here so the JIT cannot drop the measured work
+    public static volatile Object sink;
+
+    static final int WARMUP_ROUNDS = Integer.getInteger("bench.warmup", 5);
+    static final int ROUNDS = Integer.getInteger("bench.rounds", 10);
+
+    // runs the task and prints the average nanoseconds per operation
+    public static double measure(String name, Task task) throws Exception
+    {
+        for(int i = 0; i < WARMUP_ROUNDS; i++) task.run();
+
+        long operations = 0;
+        long start = System.nanoTime();
+        for(int i = 0; i < ROUNDS; i++) operations += task.run();
+        long elapsed = System.nanoTime() - start;
+
+        double perOp = (double) elapsed / operations;
+        System.out.println(String.format(Locale.ROOT, "%-48s %12.1f ns/op %12d ops", name, perOp, operations));
+        return perOp;
+    }
+}
@@ -0,0 +1,136 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Cost of the symbol table maps at 10^3 to 10^6 entries: IntIntMap against a
+ * HashMap<Integer, Integer> for name id to type id, and LongIntMap against a
+ * HashMap<Long, Integer> for (class, member) keys. Every size is timed
+ * filling a new map and looking up every key of a filled one, repeated so
+ * that small maps are timed over as many operations as big ones.
+ */
+public class MapBench {
+
+    public static void main(String[] args) throws Exception
+    {
+        for(int size = 1000; size <= 1000000; size *= 10) run(size);
+    }
+
+    static void run(int size) throws Exception
+    {
+        System.out.println(size + " entries");
+        int repeat = Math.max(1, 1000000 / size);
+
+        // name ids are dense, but a table only holds some of them, in no particular order
+        Random random = new Random(size);
+        int[] names = new int[size];
+        for(int i = 0; i < size; i++) names[i] = i * 3 + random.nextInt(3);
+        shuffle(names, random);
+
+        // about ten members per class, with the member ids spread over the names of the program
+        int[] classes = new int[size];
+        int[] members = new int[size];
+        for(int i = 0; i < size; i++)
+        {
+            classes[i] = i / 10;
+            members[i] = i % 10 * (size / 10 + 1) + random.nextInt(size / 10 + 1);
+        }
+
+        IntIntMap ints = new IntIntMap();
+        Map<Integer, Integer> boxedInts = new HashMap<Integer, Integer>();
+        LongIntMap longs = new LongIntMap();
+        Map<Long, Integer> boxedLongs = new HashMap<Long, Integer>();
+        for(int i = 0; i < size; i++)
+        {
+            ints.add(names[i], i & 1023);
+            boxedInts.put(names[i], i & 1023);
+            longs.add(classes[i], members[i], i & 1023);
+            boxedLongs.put(LongIntMap.pack(classes[i], members[i]), i & 1023);
+        }
+
+        Bench.measure("  HashMap<Integer, Integer>.put", () -> {
+            for(int r = 0; r < repeat; r++)
+            {
+                Map<Integer, Integer> map = new HashMap<Integer, Integer>();
+                for(int i = 0; i < size; i++) map.put(names[i], i & 1023);
+                Bench.sink = map;
+            }
+            return (long) size * repeat;
+        });
+        Bench.measure("  IntIntMap.add", () -> {
+            for(int r = 0; r < repeat; r++)
+            {
+                IntIntMap map = new IntIntMap();
+                for(int i = 0; i < size; i++) map.add(names[i], i & 1023);
+                Bench.sink = map;
+            }
+            return (long) size * repeat;
+        });
+        Bench.measure("  HashMap<Integer, Integer>.get", () -> {
+            long sum = 0;
+            for(int r = 0; r < repeat; r++)
+            {
+                for(int i = 0; i < size; i++) sum += boxedInts.get(names[i]);
+            }
+            Bench.sink = sum;
+            return (long) size * repeat;
+        });
+        Bench.measure("  IntIntMap.get", () -> {
+            long sum = 0;
+            for(int r = 0; r < repeat; r++)
+            {
+                for(int i = 0; i < size; i++) sum += ints.get(names[i]);
+            }
+            Bench.sink = sum;
+            return (long) size * repeat;
+        });
+
+        Bench.measure("  HashMap<Long, Integer>.put", () -> {
+            for(int r = 0; r < repeat; r++)
+            {
+                Map<Long, Integer> map = new HashMap<Long, Integer>();
+                for(int i = 0; i < size; i++) map.put(LongIntMap.pack(classes[i], members[i]), i & 1023);
+                Bench.sink = map;
+            }
+            return (long) size * repeat;
+        });
+        Bench.measure("  LongIntMap.add", () -> {
+            for(int r = 0; r < repeat; r++)
+            {
+                LongIntMap map = new LongIntMap();
+                for(int i = 0; i < size; i++) map.add(classes[i], members[i], i & 1023);
+                Bench.sink = map;
+            }
+            return (long) size * repeat;
+        });
+        Bench.measure("  HashMap<Long, Integer>.get", () -> {
+            long sum = 0;
+            for(int r = 0; r < repeat; r++)
+            {
+                for(int i = 0; i < size; i++) sum += boxedLongs.get(LongIntMap.pack(classes[i], members[i]));
+            }
+            Bench.sink = sum;
+            return (long) size * repeat;
+        });
+        Bench.measure("  LongIntMap.get", () -> {
+            long sum = 0;
+            for(int r = 0; r < repeat; r++)
+            {
+                for(int i = 0; i < size; i++) sum += longs.get(classes[i], members[i]);
+            }
+            Bench.sink = sum;
+            return (long) size * repeat;
+        });
+    }
+
+    static void shuffle(int[] values, Random random)
+    {
+        for(int i = values.length - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+}
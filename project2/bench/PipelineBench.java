@@ -0,0 +1,193 @@
+import syntaxtree.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Times every stage of the pipeline on its own: reading characters through
+ * JavaCharStream, lexing with the token manager, building the tree with
+ * MiniJavaParser.Goal() and walking it with MyVisitor.
+ * Runs over the files given as arguments and over generated programs of the
+ * sizes in -Dbench.lines (10000,100000,1000000 by default).
+ */
+public class PipelineBench {
+
+    public static void main(String[] args) throws Exception
+    {
+        List<String> names = new ArrayList<String>();
+        List<byte[]> inputs = new ArrayList<byte[]>();
+
+        for(String file: args)
+        {
+            if(!new File(file).exists())
+            {
+                System.err.println("skipping " + file + ": not found");
+                continue;
+            }
+            names.add(file);
+            inputs.add(Files.readAllBytes(new File(file).toPath()));
+        }
+
+        for(String size: System.getProperty("bench.lines", "10000,100000,1000000").split(","))
+        {
+            int lines = Integer.parseInt(size.trim());
+            names.add("synthetic " + lines + " lines");
+            inputs.add(SyntheticProgram.generate(lines).getBytes(StandardCharsets.UTF_8));
+        }
+
+        for(int i = 0; i < inputs.size(); i++)
+        {
+            System.out.println(names.get(i));
+            run(inputs.get(i));
+            System.out.println();
+        }
+    }
+
+    // measures every stage on one input, the times are per line of input
+    static void run(byte[] input) throws Exception
+    {
+        final long lines = count_lines(input);
+
+        Bench.measure("  JavaCharStream.BeginToken", () -> {
+            JavaCharStream stream = new JavaCharStream(new ByteArrayInputStream(input));
+            long chars = 0;
+            try{
+                // every character starts a new token, so the buffer never grows like it would for one huge token
+                while(true)
+                {
+                    stream.BeginToken();
+                    chars++;
+                }
+            }
+            catch(IOException ex){
+                // end of input
+            }
+            Bench.sink = chars;
+            return lines;
+        });
+
+        Bench.measure("  MiniJavaParserTokenManager.getNextToken", () -> {
+            Bench.sink = lex(new JavaCharStream(new ByteArrayInputStream(input)));
+            return lines;
+        });
+
+        // the same two stages over the file read in one go, as with --bulk
+        final char[] chars = new String(input, Charset.defaultCharset()).toCharArray();
+
+        Bench.measure("  SourceCharStream.BeginToken", () -> {
+            SourceCharStream stream = new SourceCharStream(chars, chars.length);
+            long read = 0;
+            try{
+                while(true)
+                {
+                    stream.BeginToken();
+                    read++;
+                }
+            }
+            catch(IOException ex){
+                // end of input
+            }
+            Bench.sink = read;
+            return lines;
+        });
+
+        Bench.measure("  getNextToken over SourceCharStream", () -> {
+            Bench.sink = lex(new SourceCharStream(chars, chars.length));
+            return lines;
+        });
+
+        if(parse(input) == null)
+        {
+            System.out.println("  (syntax error, parser and visitor stages skipped)");
+            return;
+        }
+
+        Bench.measure("  MiniJavaParser.Goal", () -> {
+            Bench.sink = parse(input);
+            return lines;
+        });
+        Bench.measure("  MiniJavaParser.Goal over SourceCharStream", () -> {
+            Bench.sink = parse(chars);
+            return lines;
+        });
+
+        // declarations only, as with --offsets
+        Bench.measure("  MiniJavaParser.Skim", () -> {
+            Bench.sink = new MiniJavaParser(new SkimTokenManager(new JavaCharStream(new ByteArrayInputStream(input)))).Skim();
+            return lines;
+        });
+
+        Bench.sink = null;
+
+        // the tree is only kept alive for the visitor stages, it is lexed with the names of this thread's pipeline
+        // like in Main.check, so every visitor looks its names up in the table they were numbered in
+        Pipeline pipeline = Pipeline.get();
+        Goal root = pipeline.parse(new ByteArrayInputStream(input));
+        Bench.measure("  MyVisitor", () -> {
+            // the offsets and the errors stay in the visitor, nothing is printed
+            root.accept(pipeline.visitor(null, false), null);
+            return lines;
+        });
+
+        // the same walk with the method bodies checked by every core
+        ForkJoinPool pool = new ForkJoinPool();
+        Bench.measure("  MyVisitor, bodies on " + pool.getParallelism() + " workers", () -> {
+            root.accept(pipeline.visitor(pool, false), null);
+            return lines;
+        });
+        pool.shutdown();
+    }
+
+    // returns the number of tokens in the stream
+    static long lex(JavaCharStream stream)
+    {
+        MiniJavaParserTokenManager lexer = new MiniJavaParserTokenManager(stream);
+        long tokens = 0;
+        try{
+            while(lexer.getNextToken().kind != MiniJavaParserConstants.EOF) tokens++;
+        }
+        catch(TokenMgrError ex){
+            // lexical errors end the stage like the end of input
+        }
+        return tokens;
+    }
+
+    // builds the tree of the input, null if it does not parse
+    static Goal parse(byte[] input) throws Exception
+    {
+        try{
+            return new MiniJavaParser(new ByteArrayInputStream(input)).Goal();
+        }
+        catch(ParseException | TokenMgrError ex){
+            return null;
+        }
+    }
+
+    // builds the tree of the input read in one go, as with --bulk
+    static Goal parse(char[] input) throws Exception
+    {
+        try{
+            return new MiniJavaParser(new MiniJavaParserTokenManager(new SourceCharStream(input, input.length))).Goal();
+        }
+        catch(ParseException | TokenMgrError ex){
+            return null;
+        }
+    }
+
+    static long count_lines(byte[] input)
+    {
+        long lines = 1;
+        for(byte b: input)
+        {
+            if(b == '\n') lines++;
+        }
+        return lines;
+    }
+}
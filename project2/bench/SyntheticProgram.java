@@ -0,0 +1,86 @@
+/**
+ * Generates valid MiniJava programs of a requested size, to benchmark the
+ * pipeline on inputs larger than the sample corpus.
+ */
+public class SyntheticProgram {
+
+    // number of methods in every generated class
+    static final int METHODS = 4;
+
+    // returns a program of roughly the given number of lines
+    public static String generate(int lines)
+    {
+        StringBuilder sb = new StringBuilder(lines * 24);
+
+        sb.append("class Main {\n");
+        sb.append("    public static void main(String[] a){\n");
+        sb.append("        System.out.println(new C0().m0(1));\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+
+        int written = 5;
+        for(int c = 0; written < lines; c++)
+        {
+            written += appendClass(sb, c);
+        }
+
+        return sb.toString();
+    }
+
+    // appends class number c, every tenth class starts a new inheritance chain
+    private static int appendClass(StringBuilder sb, int c)
+    {
+        int lines = 0;
+
+        sb.append("class C").append(c);
+        if(c % 10 != 0) sb.append(" extends C").append(c - 1);
+        sb.append(" {\n");
+        sb.append("    int f").append(c).append(";\n");
+        sb.append("    boolean b").append(c).append(";\n");
+        sb.append("    int[] arr").append(c).append(";\n");
+        sb.append("    C").append(c).append(" next").append(c).append(";\n");
+        lines += 5;
+
+        for(int m = 0; m < METHODS; m++)
+        {
+            lines += appendMethod(sb, c, m);
+        }
+
+        sb.append("}\n");
+        return lines + 1;
+    }
+
+    // appends a method that touches every kind of statement and expression
+    private static int appendMethod(StringBuilder sb, int c, int m)
+    {
+        String field = "f" + c;
+        String array = "arr" + c;
+
+        sb.append("    public int m").append(m).append("(int x){\n");
+        sb.append("        int y;\n");
+        sb.append("        boolean done;\n");
+        sb.append("        int[] tmp;\n");
+        sb.append("        y = x + 1;\n");
+        sb.append("        ").append(field).append(" = y * 2;\n");
+        sb.append("        tmp = new int[10];\n");
+        sb.append("        ").append(array).append(" = tmp;\n");
+        sb.append("        tmp[0] = (y - x);\n");
+        sb.append("        done = (y < 100) && !(x < 0);\n");
+        sb.append("        while (y < 10) {\n");
+        sb.append("            y = y + (tmp[0]);\n");
+        sb.append("            tmp[1] = tmp.length;\n");
+        sb.append("        }\n");
+        sb.append("        if (done)\n");
+        sb.append("            y = this.m").append((m + 1) % METHODS).append("(y);\n");
+        sb.append("        else\n");
+        sb.append("            System.out.println(y);\n");
+        sb.append("        return y;\n");
+        sb.append("    }\n");
+        return 19;
+    }
+
+    public static void main(String[] args)
+    {
+        System.out.print(generate(args.length > 0 ? Integer.parseInt(args[0]) : 1000));
+    }
+}
@@ -0,0 +1,12 @@
+class Main {
+    public static void main(String[] a){
+        System.out.println(new A().f());
+    }
+}
+class A {
+    public int f(){
+        int x;
+        x = 1 # 2;
+        return x;
+    }
+}
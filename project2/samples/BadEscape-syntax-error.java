@@ -0,0 +1,11 @@
+class Main {
+    public static void main(String[] a){
+        System.out.println(new A().f());
+    }
+}
+class A {
+    int \u00zz;
+    public int f(){
+        return 1;
+    }
+}
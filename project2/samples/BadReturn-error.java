@@ -0,0 +1,11 @@
+class Main {
+    public static void main(String[] a){
+    }
+}
+class A {
+    int x;
+    boolean b;
+    public int f(){
+        return b;
+    }
+}
@@ -0,0 +1,12 @@
+class Main {
+    public static void main(String[] a){
+    }
+}
+class A {
+    int x;
+    boolean b;
+    public int f(){
+        x = x * b;
+        return x;
+    }
+}
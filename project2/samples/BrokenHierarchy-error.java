@@ -0,0 +1,25 @@
+class Main {
+    public static void main(String[] a){
+        System.out.println(1);
+    }
+}
+class A {
+    int a;
+    public int m(){ return true; }
+}
+class B extends A {
+    boolean b;
+    public int n(){ return 0; }
+}
+class C extends D {
+    int c;
+}
+class E extends C {
+    int e;
+}
+class F extends G {
+    int f;
+}
+class G extends F {
+    int g;
+}
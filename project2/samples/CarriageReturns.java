@@ -0,0 +1 @@
+class Main {	public static void main(String[] a){		System.out.println(new A().f());	}}/* a comment   over two lines */class A {	int x;	// tail	public int f(){		boolean b;		b = 1;	x = true;		return x;	}}
\ No newline at end of file
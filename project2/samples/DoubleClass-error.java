@@ -0,0 +1,6 @@
+class Main {
+    public static void main(String[] a){
+    }
+}
+class A { int x; }
+class A { int y; }
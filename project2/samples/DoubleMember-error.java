@@ -0,0 +1,30 @@
+class Main {
+    public static void main(String[] a){
+        System.out.println(new A().m(1));
+    }
+}
+class A {
+    int z;
+    int z;
+    boolean x;
+    public int m(int p){
+        x = true;
+        z = 1;
+        x = 1;
+        y = 2;
+        return this.m(1, 2);
+    }
+    public boolean n(){
+        return 3;
+    }
+    public int m(){
+        return 0;
+    }
+}
+class A {
+    int w;
+    public int q(){ return true; }
+}
+class B extends A {
+    int k;
+}
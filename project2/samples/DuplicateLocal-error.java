@@ -0,0 +1,2 @@
+class Main { public static void main(String[] a){ System.out.println(1); } }
+class A { public int f(int p){ int p; return 1; } }
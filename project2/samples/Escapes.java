@@ -0,0 +1,12 @@
+class Main {
+    public static void main(String[] a){
+        System.out.println(new A().f());
+    }
+}
+class A {
+    int \u0078;
+    public int f(){
+        boolean \u0062\u0062; bb = \u0031; x = \uu0074rue;
+        return \u0078;
+    }
+}
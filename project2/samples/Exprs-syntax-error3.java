@@ -0,0 +1 @@
+class Exprs { public static void main(String[] a){ System.out.println(x.foo; } }
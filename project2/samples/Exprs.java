@@ -0,0 +1,23 @@
+class Exprs {
+    public static void main(String[] a){
+        System.out.println(((((1)))) + ((2)));
+    }
+}
+class E {
+    int x; int[] arr; boolean b; E e;
+    public int f(int p, boolean q){
+        b = !!q && (x < p);
+        b = !b;
+        x = (arr[(x)]) * (this.f((1 + 2), !q));
+        x = arr.length;
+        x = new int[((x))].length;
+        x = this.f(new E().f(1, true), (x < (arr[0])) && !(b));
+        e = new E();
+        x = e.f(e.f(e.f(1, b), b), b);
+        arr[new int[5].length] = ((new int[1])[0]);
+        b = (x) < (x);
+        x = x - (x);
+        b = !(x < 1) && (!b);
+        return x;
+    }
+}
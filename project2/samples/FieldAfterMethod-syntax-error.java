@@ -0,0 +1,6 @@
+class M { public static void main(String[] a){ System.out.println(1); } }
+class A {
+    int x;
+    public int f(){ return x; }
+    int y;
+}
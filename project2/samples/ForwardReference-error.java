@@ -0,0 +1,3 @@
+class Main { public static void main(String[] a){ System.out.println(new A().f()); } }
+class A { public int f(){ B b; int y; b = new B(); y = b.g(); return y; } }
+class B { public boolean g(){ return true; } }
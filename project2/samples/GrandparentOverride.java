@@ -0,0 +1,4 @@
+class M{public static void main(String[] a){System.out.println(1);}}
+class A{ public int f(){return 0;} public int g(){return 0;} }
+class B extends A{ public int f(){return 0;} public int h(){return 0;} }
+class C extends B{ public int g(){return 0;} public int k(){return 0;} }
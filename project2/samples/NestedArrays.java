@@ -0,0 +1,2 @@
+class M{public static void main(String[] a){System.out.println(new A().f());}}
+class A{ public int f(){ int x; x = ((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((1 + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) * 3; x = ((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((((new int[((1 + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) + 1))]).length) < x; return x;}}
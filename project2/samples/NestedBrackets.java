@@ -0,0 +1 @@
+class M { public static void main(String[] a){ System.out.println(1); } } class A { int x; public int f(){ return (x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + ((x + (1)))))))))))))))))))))))))))))))))))))))))))); } }
@@ -0,0 +1 @@
+class
\ No newline at end of file
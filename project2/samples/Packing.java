@@ -0,0 +1,21 @@
+class Main {
+    public static void main(String[] a){
+        System.out.println(new Leaf().init());
+    }
+}
+
+class Base {
+    boolean open;
+    int count;
+    boolean done;
+    Base next;
+    public int size(){ return count; }
+}
+
+class Leaf extends Base {
+    boolean marked;
+    int[] values;
+    int weight;
+    public int init(){ weight = 1; return weight; }
+    public int size(){ return weight; }
+}
@@ -0,0 +1,46 @@
+class Shapes {
+    public static void main(String[] a){
+        Shape s;
+        int x;
+        s = new Square();
+        x = s.init(4);
+        System.out.println(s.area());
+    }
+}
+
+class Shape {
+    int side;
+    boolean valid;
+    int[] dims;
+
+    public int init(int v){
+        side = v;
+        valid = true;
+        dims = new int[2];
+        dims[0] = v;
+        dims[1] = v;
+        return side;
+    }
+
+    public int area(){
+        return 0;
+    }
+}
+
+class Square extends Shape {
+    boolean[] flags;
+    Shape other;
+
+    public int area(){
+        int r;
+        if (valid && (0 < side))
+            r = side * side;
+        else
+            r = 0;
+        return r;
+    }
+
+    public int perimeter(){
+        return (dims.length) + (dims[0]);
+    }
+}
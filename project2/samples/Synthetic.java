@@ -0,0 +1,263 @@
+class Main {
+    public static void main(String[] a){
+        System.out.println(new C0().m0(1));
+    }
+}
+class C0 {
+    int f0;
+    boolean b0;
+    int[] arr0;
+    C0 next0;
+    public int m0(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f0 = y * 2;
+        tmp = new int[10];
+        arr0 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m1(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+    public int m1(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f0 = y * 2;
+        tmp = new int[10];
+        arr0 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m2(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+    public int m2(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f0 = y * 2;
+        tmp = new int[10];
+        arr0 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m3(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+    public int m3(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f0 = y * 2;
+        tmp = new int[10];
+        arr0 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m0(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+}
+class C1 extends C0 {
+    int f1;
+    boolean b1;
+    int[] arr1;
+    C1 next1;
+    public int m0(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f1 = y * 2;
+        tmp = new int[10];
+        arr1 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m1(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+    public int m1(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f1 = y * 2;
+        tmp = new int[10];
+        arr1 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m2(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+    public int m2(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f1 = y * 2;
+        tmp = new int[10];
+        arr1 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m3(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+    public int m3(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f1 = y * 2;
+        tmp = new int[10];
+        arr1 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m0(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+}
+class C2 extends C1 {
+    int f2;
+    boolean b2;
+    int[] arr2;
+    C2 next2;
+    public int m0(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f2 = y * 2;
+        tmp = new int[10];
+        arr2 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m1(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+    public int m1(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f2 = y * 2;
+        tmp = new int[10];
+        arr2 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m2(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+    public int m2(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f2 = y * 2;
+        tmp = new int[10];
+        arr2 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m3(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+    public int m3(int x){
+        int y;
+        boolean done;
+        int[] tmp;
+        y = x + 1;
+        f2 = y * 2;
+        tmp = new int[10];
+        arr2 = tmp;
+        tmp[0] = (y - x);
+        done = (y < 100) && !(x < 0);
+        while (y < 10) {
+            y = y + (tmp[0]);
+            tmp[1] = tmp.length;
+        }
+        if (done)
+            y = this.m0(y);
+        else
+            System.out.println(y);
+        return y;
+    }
+}
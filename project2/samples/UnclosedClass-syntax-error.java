@@ -0,0 +1,2 @@
+class M { public static void main(String[] a){ System.out.println(1); } }
+class A { public int f(){ return 1; 
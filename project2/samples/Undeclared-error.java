@@ -0,0 +1,11 @@
+class Main {
+    public static void main(String[] a){
+    }
+}
+class A {
+    int x;
+    public int f(){
+        y = 3;
+        return x;
+    }
+}
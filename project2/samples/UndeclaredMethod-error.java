@@ -0,0 +1,23 @@
+class Main {
+    public static void main(String[] a){
+        System.out.println(new B().run());
+    }
+}
+
+class A {
+    public int base(int v){ return v; }
+}
+
+class B extends A {
+    public int run(){
+        A o;
+        int x;
+        o = new A();
+        x = o.nope(1);
+        x = this.base(2);
+        x = this.run();
+        x = o.run();
+        x = this.missing(o.nope(true), 3);
+        return x;
+    }
+}